@@ -0,0 +1,130 @@
+package com.example.festival.cache;
+
+import com.example.festival.dto.FestivalResponseDTO;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * 특정 시점의 축제 목록을 담은 불변 스냅샷.
+ * 한 번 만들어지면 수정되지 않으며, 변경이 생기면 새 스냅샷으로 통째로 교체된다.
+ *
+ * version 은 교체될 때마다 오르고, baseVersion 은 DB 에서 다시 읽었을 때만 오른다.
+ * 인기 카운터만 바뀐 스냅샷은 baseVersion 이 같다.
+ */
+@Getter
+public class CatalogSnapshot {
+
+    private final long version;
+    private final long baseVersion;
+    private final LocalDateTime builtAt;
+
+    /** 평점 내림차순 */
+    private final List<FestivalResponseDTO> festivals;
+    private final Map<Long, FestivalResponseDTO> festivalsById;
+    private final GeoGridIndex geoIndex;
+    private final FestivalIntervalIndex intervalIndex;
+
+    /** festivals 와 같은 순서의 카테고리 비트마스크 */
+    @Getter(AccessLevel.NONE)
+    private final long[] categoryMasks;
+
+    /** 인기순(popularity 내림차순, id 오름차순) */
+    private final List<FestivalResponseDTO> popularFestivals;
+
+    /** popularFestivals 순서의 festivals 인덱스 */
+    @Getter(AccessLevel.NONE)
+    private final int[] popularOrder;
+
+    public CatalogSnapshot(long version, long baseVersion, List<FestivalResponseDTO> festivals, long[] categoryMasks) {
+        this.version = version;
+        this.baseVersion = baseVersion;
+        this.builtAt = LocalDateTime.now();
+        this.festivals = List.copyOf(festivals);
+        this.categoryMasks = categoryMasks.clone();
+
+        Map<Long, FestivalResponseDTO> byId = new LinkedHashMap<>();
+        for (FestivalResponseDTO dto : festivals) {
+            byId.put(dto.getId(), dto);
+        }
+        this.festivalsById = Collections.unmodifiableMap(byId);
+        this.geoIndex = new GeoGridIndex(this.festivals);
+        this.intervalIndex = new FestivalIntervalIndex(this.festivals);
+
+        Comparator<Integer> byPopularity = Comparator
+                .comparingLong((Integer i) -> popularity(this.festivals.get(i))).reversed()
+                .thenComparingLong(i -> this.festivals.get(i).getId());
+        this.popularOrder = IntStream.range(0, this.festivals.size())
+                .boxed()
+                .sorted(byPopularity)
+                .mapToInt(Integer::intValue)
+                .toArray();
+        List<FestivalResponseDTO> popular = new ArrayList<>(popularOrder.length);
+        for (int i : popularOrder) {
+            popular.add(this.festivals.get(i));
+        }
+        this.popularFestivals = Collections.unmodifiableList(popular);
+    }
+
+    /**
+     * 인기 정렬 키: 찜 수 + 예약 인원.
+     */
+    public static long popularity(FestivalResponseDTO festival) {
+        return festival.getWishlistCount() + festival.getReservedHeadCount();
+    }
+
+    public long getCategoryMask(int index) {
+        return categoryMasks[index];
+    }
+
+    /**
+     * 축제 목록과 순서, 카테고리는 그대로 두고 DTO 만 바꾼 새 스냅샷. DB 를 다시 읽지 않는다.
+     */
+    public CatalogSnapshot withFestivals(long newVersion, List<FestivalResponseDTO> replaced) {
+        return new CatalogSnapshot(newVersion, baseVersion, replaced, categoryMasks);
+    }
+
+    public FestivalResponseDTO get(Long festivalId) {
+        return festivalsById.get(festivalId);
+    }
+
+    /**
+     * mask 의 카테고리 중 하나라도 가진 축제 (평점 내림차순).
+     */
+    public List<FestivalResponseDTO> filterByCategoryMask(long mask) {
+        if (mask == 0L) {
+            return List.of();
+        }
+        List<FestivalResponseDTO> matched = new ArrayList<>();
+        for (int i = 0; i < festivals.size(); i++) {
+            if ((categoryMasks[i] & mask) != 0L) {
+                matched.add(festivals.get(i));
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * mask 의 카테고리 중 하나라도 가진 축제 (인기순).
+     */
+    public List<FestivalResponseDTO> popularByCategoryMask(long mask) {
+        if (mask == 0L) {
+            return List.of();
+        }
+        List<FestivalResponseDTO> matched = new ArrayList<>();
+        for (int i : popularOrder) {
+            if ((categoryMasks[i] & mask) != 0L) {
+                matched.add(festivals.get(i));
+            }
+        }
+        return matched;
+    }
+}
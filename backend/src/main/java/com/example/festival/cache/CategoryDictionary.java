@@ -0,0 +1,136 @@
+package com.example.festival.cache;
+
+import com.example.festival.entity.Category;
+import com.example.festival.repository.CategoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * category 테이블의 인메모리 사전 (이름 <-> id) 과 비트마스크 변환.
+ *
+ * 카테고리 id 1~64 가 long 비트마스크의 0~63 번 비트에 대응한다. 이 범위를 넘는 id 는
+ * festival_category 에는 기록되어 응답에는 나가지만 마스크 기반 필터/추천 매칭에서는 보이지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryDictionary {
+
+    public static final int MAX_MASK_CATEGORIES = Long.SIZE;
+
+    private final CategoryRepository categoryRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final Map<String, Long> idsByKey = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    /**
+     * "공연,전시" / "[공연, 전시]" 형태의 문자열을 카테고리 이름 목록으로 나눈다.
+     */
+    public List<String> parse(String categories) {
+        if (categories == null || categories.trim().isEmpty() || categories.equals("[]")) {
+            return List.of();
+        }
+        String cleaned = categories.replace("[", "").replace("]", "");
+        return Arrays.stream(cleaned.split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * 이름 목록을 카테고리 id 로 바꾼다. 사전에 없는 이름은 category 테이블에 새로 등록한다.
+     */
+    public List<Long> resolveOrCreate(Collection<String> names) {
+        ensureLoaded();
+        Set<Long> ids = new LinkedHashSet<>();
+        for (String name : names) {
+            Long id = idsByKey.get(key(name));
+            ids.add(id != null ? id : create(name));
+        }
+        return new ArrayList<>(ids);
+    }
+
+    /**
+     * 이름 목록에 해당하는 마스크. 사전에 없는 이름은 무시한다.
+     */
+    public long maskOf(Collection<String> names) {
+        ensureLoaded();
+        long mask = 0L;
+        for (String name : names) {
+            Long id = idsByKey.get(key(name));
+            if (id != null) {
+                mask |= bit(id);
+            }
+        }
+        return mask;
+    }
+
+    public long maskOfIds(Collection<Long> ids) {
+        long mask = 0L;
+        for (Long id : ids) {
+            mask |= bit(id);
+        }
+        return mask;
+    }
+
+    public static long bit(Long categoryId) {
+        if (categoryId == null || categoryId < 1 || categoryId > MAX_MASK_CATEGORIES) {
+            return 0L;
+        }
+        return 1L << (categoryId - 1);
+    }
+
+    private synchronized Long create(String name) {
+        Long existing = idsByKey.get(key(name));
+        if (existing != null) {
+            return existing;
+        }
+        // 바깥 축제 트랜잭션이 롤백돼도 사전에 올린 id 가 테이블에 남아 있도록 따로 커밋한 뒤에 등록한다
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        Category saved = requiresNew.execute(status ->
+                categoryRepository.save(Category.builder().name(name.trim()).build()));
+        if (saved.getCategoryId() > MAX_MASK_CATEGORIES) {
+            log.warn("카테고리 id {} ({}) 는 비트마스크 범위를 넘어 마스크 매칭에서 제외됩니다.",
+                    saved.getCategoryId(), saved.getName());
+        }
+        register(saved);
+        return saved.getCategoryId();
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (loaded) {
+                return;
+            }
+            categoryRepository.findAll().forEach(this::register);
+            loaded = true;
+        }
+    }
+
+    private void register(Category category) {
+        idsByKey.put(key(category.getName()), category.getCategoryId());
+    }
+
+    private static String key(String name) {
+        return name.trim().toLowerCase();
+    }
+}
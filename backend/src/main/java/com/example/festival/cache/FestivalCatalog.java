@@ -0,0 +1,189 @@
+package com.example.festival.cache;
+
+import com.example.festival.dto.FestivalResponseDTO;
+import com.example.festival.entity.Festival;
+import com.example.festival.event.FestivalChangedEvent;
+import com.example.festival.event.PopularityFlushedEvent;
+import com.example.festival.event.ReviewChangedEvent;
+import com.example.festival.repository.FestivalRepository;
+import com.example.festival.service.FestivalMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GET /festivals 용 인메모리 축제 카탈로그.
+ *
+ * 읽기는 volatile 스냅샷 참조 하나만 읽고, 축제/리뷰 변경 이벤트가 오면
+ * 전용 스레드에서 새 스냅샷을 만들어 교체한다. 재빌드 중에 들어온 변경은
+ * 한 번의 추가 재빌드로 합쳐진다.
+ * 인기 카운터 반영(PopularityFlushedEvent)은 DB 를 다시 읽지 않고, 바뀐 축제의 DTO 만 현재 카운터 값으로
+ * 바꿔 인기순을 다시 정렬한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FestivalCatalog {
+
+    private final FestivalRepository festivalRepository;
+    private final FestivalMapper festivalMapper;
+
+    private final AtomicLong versionSequence = new AtomicLong();
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "festival-catalog");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile CatalogSnapshot snapshot;
+    private volatile DayView dayView;
+
+    /**
+     * 현재 스냅샷. 아직 한 번도 만들어지지 않았다면 호출 스레드에서 직접 만든다.
+     */
+    public CatalogSnapshot snapshot() {
+        CatalogSnapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            return snapshot != null ? snapshot : rebuild();
+        }
+    }
+
+    /**
+     * 오늘 기준 진행 중 / 예정 축제 목록. 스냅샷이 바뀌었거나 날짜가 넘어갔을 때만 다시 계산한다.
+     */
+    public DayView dayView() {
+        CatalogSnapshot current = snapshot();
+        LocalDate today = LocalDate.now();
+        DayView view = dayView;
+        if (view != null && view.snapshotVersion() == current.getVersion() && view.date().equals(today)) {
+            return view;
+        }
+        view = new DayView(
+                current.getVersion(),
+                today,
+                List.copyOf(current.getIntervalIndex().ongoing(today)),
+                List.copyOf(current.getIntervalIndex().endingOnOrAfter(today)));
+        dayView = view;
+        return view;
+    }
+
+    /**
+     * 자정에 날짜 기준 목록을 미리 넘겨 둔다.
+     */
+    @Scheduled(cron = "0 0 0 * * *")
+    public void rollover() {
+        dayView();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        scheduleRebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFestivalChanged(FestivalChangedEvent event) {
+        scheduleRebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewChanged(ReviewChangedEvent event) {
+        scheduleRebuild();
+    }
+
+    @EventListener
+    public void onPopularityFlushed(PopularityFlushedEvent event) {
+        Set<Long> festivalIds = event.getFestivalIds();
+        try {
+            rebuildExecutor.execute(() -> {
+                try {
+                    refreshPopularity(festivalIds);
+                } catch (RuntimeException e) {
+                    log.warn("축제 카탈로그 인기 집계 반영 실패", e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+        }
+    }
+
+    public void scheduleRebuild() {
+        if (!rebuildScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        rebuildExecutor.execute(() -> {
+            rebuildScheduled.set(false);
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.warn("축제 카탈로그 재생성 실패, 이전 스냅샷을 유지합니다.", e);
+            }
+        });
+    }
+
+    private synchronized CatalogSnapshot rebuild() {
+        List<Festival> entities = festivalRepository.findAllByOrderByAverageRatingDescFestivalIdAsc();
+        List<FestivalResponseDTO> festivals = festivalMapper.toDTOs(entities);
+        long[] categoryMasks = new long[entities.size()];
+        for (int i = 0; i < entities.size(); i++) {
+            categoryMasks[i] = entities.get(i).getCategoryMask();
+        }
+
+        long version = versionSequence.incrementAndGet();
+        CatalogSnapshot built = new CatalogSnapshot(version, version, festivals, categoryMasks);
+        snapshot = built;
+        return built;
+    }
+
+    private synchronized void refreshPopularity(Set<Long> festivalIds) {
+        CatalogSnapshot current = snapshot;
+        if (current == null) {
+            return; // 처음 만들 때 현재 카운터 값이 들어간다
+        }
+        List<FestivalResponseDTO> festivals = new ArrayList<>(current.getFestivals());
+        boolean changed = false;
+        for (int i = 0; i < festivals.size(); i++) {
+            FestivalResponseDTO festival = festivals.get(i);
+            if (!festivalIds.contains(festival.getId())) {
+                continue;
+            }
+            FestivalResponseDTO refreshed = festivalMapper.withPopularity(festival);
+            if (refreshed != festival) {
+                festivals.set(i, refreshed);
+                changed = true;
+            }
+        }
+        if (changed) {
+            snapshot = current.withFestivals(versionSequence.incrementAndGet(), festivals);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    public record DayView(long snapshotVersion,
+                          LocalDate date,
+                          List<FestivalResponseDTO> ongoing,
+                          List<FestivalResponseDTO> upcoming) {
+    }
+}
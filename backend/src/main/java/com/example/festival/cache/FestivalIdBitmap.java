@@ -0,0 +1,186 @@
+package com.example.festival.cache;
+
+import java.util.Arrays;
+
+/**
+ * Roaring 방식의 압축 id 집합.
+ *
+ * id 의 상위 48비트로 구간(container)을 나누고, 구간 안의 하위 16비트는 원소가 적으면 정렬된 char 배열,
+ * 4096개를 넘으면 8KB 비트맵으로 담는다. 찜 목록처럼 사용자당 수십 개인 경우 id 하나에 2바이트 남짓이다.
+ * 동기화하지 않으므로 호출하는 쪽에서 잠근다.
+ */
+final class FestivalIdBitmap {
+
+    private static final int ARRAY_MAX = 4096;
+    private static final int BITMAP_WORDS = 1 << 10; // 65536 bits
+
+    private long[] keys = new long[1];
+    private Container[] containers = new Container[1];
+    private int containerCount;
+    private int cardinality;
+
+    boolean contains(long id) {
+        int index = Arrays.binarySearch(keys, 0, containerCount, id >>> 16);
+        return index >= 0 && containers[index].contains((char) id);
+    }
+
+    /**
+     * @return 새로 들어갔으면 true
+     */
+    boolean add(long id) {
+        long key = id >>> 16;
+        int index = Arrays.binarySearch(keys, 0, containerCount, key);
+        if (index < 0) {
+            index = -index - 1;
+            if (containerCount == keys.length) {
+                keys = Arrays.copyOf(keys, containerCount * 2);
+                containers = Arrays.copyOf(containers, containerCount * 2);
+            }
+            System.arraycopy(keys, index, keys, index + 1, containerCount - index);
+            System.arraycopy(containers, index, containers, index + 1, containerCount - index);
+            keys[index] = key;
+            containers[index] = new Container();
+            containerCount++;
+        }
+        boolean added = containers[index].add((char) id);
+        if (added) {
+            cardinality++;
+        }
+        return added;
+    }
+
+    /**
+     * @return 있던 값을 뺐으면 true
+     */
+    boolean remove(long id) {
+        int index = Arrays.binarySearch(keys, 0, containerCount, id >>> 16);
+        if (index < 0 || !containers[index].remove((char) id)) {
+            return false;
+        }
+        cardinality--;
+        if (containers[index].cardinality == 0) {
+            System.arraycopy(keys, index + 1, keys, index, containerCount - index - 1);
+            System.arraycopy(containers, index + 1, containers, index, containerCount - index - 1);
+            containerCount--;
+            containers[containerCount] = null;
+        }
+        return true;
+    }
+
+    int cardinality() {
+        return cardinality;
+    }
+
+    /**
+     * 오름차순 id 배열.
+     */
+    long[] toArray() {
+        long[] ids = new long[cardinality];
+        int n = 0;
+        for (int i = 0; i < containerCount; i++) {
+            long high = keys[i] << 16;
+            Container container = containers[i];
+            if (container.bits == null) {
+                for (int j = 0; j < container.cardinality; j++) {
+                    ids[n++] = high | container.values[j];
+                }
+                continue;
+            }
+            for (int word = 0; word < BITMAP_WORDS; word++) {
+                long bits = container.bits[word];
+                while (bits != 0) {
+                    ids[n++] = high | ((long) word << 6) | Long.numberOfTrailingZeros(bits);
+                    bits &= bits - 1;
+                }
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * 하위 16비트 집합. bits 가 null 이면 values[0..cardinality) 정렬 배열, 아니면 비트맵.
+     */
+    private static final class Container {
+        char[] values = new char[4];
+        long[] bits;
+        int cardinality;
+
+        boolean contains(char low) {
+            if (bits != null) {
+                return (bits[low >>> 6] & (1L << low)) != 0;
+            }
+            return Arrays.binarySearch(values, 0, cardinality, low) >= 0;
+        }
+
+        boolean add(char low) {
+            if (bits != null) {
+                long mask = 1L << low;
+                if ((bits[low >>> 6] & mask) != 0) {
+                    return false;
+                }
+                bits[low >>> 6] |= mask;
+                cardinality++;
+                return true;
+            }
+            int index = Arrays.binarySearch(values, 0, cardinality, low);
+            if (index >= 0) {
+                return false;
+            }
+            if (cardinality == ARRAY_MAX) {
+                toBitmap();
+                return add(low);
+            }
+            index = -index - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(cardinality * 2, ARRAY_MAX));
+            }
+            System.arraycopy(values, index, values, index + 1, cardinality - index);
+            values[index] = low;
+            cardinality++;
+            return true;
+        }
+
+        boolean remove(char low) {
+            if (bits != null) {
+                long mask = 1L << low;
+                if ((bits[low >>> 6] & mask) == 0) {
+                    return false;
+                }
+                bits[low >>> 6] &= ~mask;
+                cardinality--;
+                if (cardinality <= ARRAY_MAX) {
+                    toArray();
+                }
+                return true;
+            }
+            int index = Arrays.binarySearch(values, 0, cardinality, low);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+            cardinality--;
+            return true;
+        }
+
+        private void toBitmap() {
+            bits = new long[BITMAP_WORDS];
+            for (int i = 0; i < cardinality; i++) {
+                bits[values[i] >>> 6] |= 1L << values[i];
+            }
+            values = null;
+        }
+
+        private void toArray() {
+            values = new char[ARRAY_MAX];
+            int n = 0;
+            for (int word = 0; word < BITMAP_WORDS; word++) {
+                long w = bits[word];
+                while (w != 0) {
+                    values[n++] = (char) ((word << 6) | Long.numberOfTrailingZeros(w));
+                    w &= w - 1;
+                }
+            }
+            bits = null;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.festival.cache;
+
+import com.example.festival.dto.FestivalResponseDTO;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 축제 기간 [startDate, endDate] 에 대한 정적 구간 트리. 스냅샷과 함께 만들어지는 불변 객체다.
+ *
+ * 시작일 순으로 정렬한 배열을 암묵적인 균형 이진 트리로 보고 (구간 [lo, hi) 의 가운데가 노드),
+ * 노드마다 서브트리의 최대 종료일을 기록해 겹치지 않는 서브트리를 건너뛴다. 질의는 O(log n + k) 이고
+ * 결과는 시작일 오름차순이다.
+ */
+public class FestivalIntervalIndex {
+
+    private final FestivalResponseDTO[] festivals;
+    private final long[] starts;
+    private final long[] ends;
+    private final long[] subtreeMaxEnds;
+
+    public FestivalIntervalIndex(List<FestivalResponseDTO> source) {
+        List<FestivalResponseDTO> sorted = new ArrayList<>();
+        for (FestivalResponseDTO festival : source) {
+            if (festival.getStartDate() != null && festival.getEndDate() != null) {
+                sorted.add(festival);
+            }
+        }
+        sorted.sort(Comparator.comparing(FestivalResponseDTO::getStartDate)
+                .thenComparing(FestivalResponseDTO::getId));
+
+        int n = sorted.size();
+        festivals = sorted.toArray(new FestivalResponseDTO[0]);
+        starts = new long[n];
+        ends = new long[n];
+        subtreeMaxEnds = new long[n];
+        for (int i = 0; i < n; i++) {
+            starts[i] = festivals[i].getStartDate().toEpochDay();
+            ends[i] = festivals[i].getEndDate().toEpochDay();
+        }
+        buildMaxEnds(0, n);
+    }
+
+    /**
+     * 기간이 [from, to] 와 하루라도 겹치는 축제 (시작일 오름차순).
+     */
+    public List<FestivalResponseDTO> overlapping(LocalDate from, LocalDate to) {
+        List<FestivalResponseDTO> result = new ArrayList<>();
+        collect(0, festivals.length, from.toEpochDay(), to.toEpochDay(), result);
+        return result;
+    }
+
+    /**
+     * date 당일 진행 중인 축제.
+     */
+    public List<FestivalResponseDTO> ongoing(LocalDate date) {
+        return overlapping(date, date);
+    }
+
+    /**
+     * date 이후에 끝나는 (진행 중 + 예정) 축제.
+     */
+    public List<FestivalResponseDTO> endingOnOrAfter(LocalDate date) {
+        return overlapping(date, LocalDate.MAX);
+    }
+
+    private long buildMaxEnds(int lo, int hi) {
+        if (lo >= hi) {
+            return Long.MIN_VALUE;
+        }
+        int mid = (lo + hi) >>> 1;
+        long max = Math.max(ends[mid], Math.max(buildMaxEnds(lo, mid), buildMaxEnds(mid + 1, hi)));
+        subtreeMaxEnds[mid] = max;
+        return max;
+    }
+
+    private void collect(int lo, int hi, long from, long to, List<FestivalResponseDTO> result) {
+        if (lo >= hi) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        if (subtreeMaxEnds[mid] < from) {
+            return; // 이 서브트리의 모든 축제가 from 전에 끝난다
+        }
+        collect(lo, mid, from, to, result);
+        if (starts[mid] > to) {
+            return; // 오른쪽은 시작일이 더 늦으므로 볼 필요가 없다
+        }
+        if (ends[mid] >= from) {
+            result.add(festivals[mid]);
+        }
+        collect(mid + 1, hi, from, to, result);
+    }
+}
@@ -0,0 +1,248 @@
+package com.example.festival.cache;
+
+import com.example.festival.entity.Festival;
+import com.example.festival.event.FestivalChangedEvent;
+import com.example.festival.repository.FestivalRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 축제 이름/설명/장소/지역에 대한 인메모리 역색인.
+ *
+ * 한국어는 띄어쓰기와 조사 때문에 단어 단위로 자르면 잘 맞지 않으므로 글자 2-gram 을 색인어로 쓴다.
+ * (한 글자 질의를 위해 1-gram 도 함께 색인한다.) 점수는 필드 가중치를 둔 BM25F 로 계산하고,
+ * 축제 변경 이벤트마다 해당 문서만 다시 색인한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FestivalSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final int NAME = 0;
+    private static final int DESCRIPTION = 1;
+    private static final int LOCATION = 2;
+    private static final int REGION = 3;
+    private static final double[] FIELD_WEIGHTS = {3.0, 1.0, 1.5, 1.5};
+    private static final int FIELD_COUNT = FIELD_WEIGHTS.length;
+
+    private static final String UNIGRAM_PREFIX = "\u0001";
+
+    private final FestivalRepository festivalRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Map<Long, int[]>> postings = new HashMap<>(); // 색인어 -> (축제 id -> 필드별 tf)
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final long[] totalFieldLengths = new long[FIELD_COUNT];
+    private volatile boolean loaded;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        ensureLoaded();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFestivalChanged(FestivalChangedEvent event) {
+        // 최초 적재는 쓰기 잠금을 쥔 채 findAll 을 하므로, 잠금을 먼저 잡아야 적재 중에 커밋된 변경을 놓치지 않는다
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                return; // 아직 적재 전이면 커밋된 상태가 최초 적재 때 함께 읽힌다
+            }
+            remove(event.getFestivalId());
+            if (event.getType() != FestivalChangedEvent.Type.DELETED && event.getFestival() != null) {
+                add(event.getFestival());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 질의어와 관련도가 높은 순으로 축제 id 를 최대 limit 개 반환한다.
+     * 질의 색인어의 절반 이상을 포함한 문서만 결과에 넣는다.
+     */
+    public List<Long> search(String query, int limit) {
+        ensureLoaded();
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(queryTerms(query)));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        int minimumMatch = (terms.size() + 1) / 2;
+
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            if (documentCount == 0) {
+                return List.of();
+            }
+            double[] averageLengths = new double[FIELD_COUNT];
+            for (int field = 0; field < FIELD_COUNT; field++) {
+                averageLengths[field] = Math.max(1.0, (double) totalFieldLengths[field] / documentCount);
+            }
+
+            Map<Long, double[]> scores = new HashMap<>(); // [점수, 매칭된 색인어 수]
+            for (String term : terms) {
+                Map<Long, int[]> posting = postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+                for (Map.Entry<Long, int[]> entry : posting.entrySet()) {
+                    Document document = documents.get(entry.getKey());
+                    double weightedTf = 0;
+                    for (int field = 0; field < FIELD_COUNT; field++) {
+                        int tf = entry.getValue()[field];
+                        if (tf == 0) {
+                            continue;
+                        }
+                        double norm = 1 - B + B * document.fieldLengths()[field] / averageLengths[field];
+                        weightedTf += FIELD_WEIGHTS[field] * tf / norm;
+                    }
+                    double[] score = scores.computeIfAbsent(entry.getKey(), k -> new double[2]);
+                    score[0] += idf * weightedTf / (K1 + weightedTf);
+                    score[1] += 1;
+                }
+            }
+
+            return scores.entrySet().stream()
+                    .filter(e -> e.getValue()[1] >= minimumMatch)
+                    .sorted((a, b) -> Double.compare(b.getValue()[0], a.getValue()[0]))
+                    .limit(limit)
+                    .map(Map.Entry::getKey)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (loaded) {
+                return;
+            }
+            for (Festival festival : festivalRepository.findAll()) {
+                add(festival);
+            }
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void add(Festival festival) {
+        String[] fields = new String[FIELD_COUNT];
+        fields[NAME] = festival.getName();
+        fields[DESCRIPTION] = festival.getDescription();
+        fields[LOCATION] = festival.getLocation();
+        fields[REGION] = festival.getRegion();
+
+        int[] fieldLengths = new int[FIELD_COUNT];
+        Map<String, int[]> termFrequencies = new HashMap<>();
+        for (int field = 0; field < FIELD_COUNT; field++) {
+            List<String> terms = indexTerms(fields[field]);
+            fieldLengths[field] = terms.size();
+            totalFieldLengths[field] += terms.size();
+            for (String term : terms) {
+                termFrequencies.computeIfAbsent(term, k -> new int[FIELD_COUNT])[field]++;
+            }
+        }
+
+        Long festivalId = festival.getFestivalId();
+        termFrequencies.forEach((term, tfs) ->
+                postings.computeIfAbsent(term, k -> new HashMap<>()).put(festivalId, tfs));
+        documents.put(festivalId, new Document(fieldLengths, termFrequencies.keySet()));
+    }
+
+    private void remove(Long festivalId) {
+        Document document = documents.remove(festivalId);
+        if (document == null) {
+            return;
+        }
+        for (int field = 0; field < FIELD_COUNT; field++) {
+            totalFieldLengths[field] -= document.fieldLengths()[field];
+        }
+        for (String term : document.terms()) {
+            Map<Long, int[]> posting = postings.get(term);
+            if (posting == null) {
+                continue;
+            }
+            posting.remove(festivalId);
+            if (posting.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    /** 문서 색인어: 글자/숫자 연속 구간마다 2-gram 과 1-gram 을 모두 만든다. */
+    private static List<String> indexTerms(String text) {
+        List<String> terms = new ArrayList<>();
+        for (String run : runs(text)) {
+            for (int i = 0; i < run.length(); i++) {
+                terms.add(UNIGRAM_PREFIX + run.charAt(i));
+                if (i + 1 < run.length()) {
+                    terms.add(run.substring(i, i + 2));
+                }
+            }
+        }
+        return terms;
+    }
+
+    /** 질의 색인어: 두 글자 이상 구간은 2-gram, 한 글자 구간은 1-gram 을 쓴다. */
+    private static List<String> queryTerms(String text) {
+        List<String> terms = new ArrayList<>();
+        for (String run : runs(text)) {
+            if (run.length() == 1) {
+                terms.add(UNIGRAM_PREFIX + run);
+                continue;
+            }
+            for (int i = 0; i + 1 < run.length(); i++) {
+                terms.add(run.substring(i, i + 2));
+            }
+        }
+        return terms;
+    }
+
+    private static List<String> runs(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase();
+        List<String> runs = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                current.append(c);
+            } else if (!current.isEmpty()) {
+                runs.add(current.toString());
+                current.setLength(0);
+            }
+        }
+        if (!current.isEmpty()) {
+            runs.add(current.toString());
+        }
+        return runs;
+    }
+
+    private record Document(int[] fieldLengths, Set<String> terms) {
+    }
+}
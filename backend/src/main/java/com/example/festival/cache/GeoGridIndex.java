@@ -0,0 +1,156 @@
+package com.example.festival.cache;
+
+import com.example.festival.dto.FestivalResponseDTO;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 축제 좌표(lat/lng)에 대한 고정 격자 공간 인덱스. 스냅샷과 함께 만들어지는 불변 객체다.
+ *
+ * 좌표를 CELL_DEGREES 크기의 격자 칸으로 나누고, 질의 지점이 속한 칸부터 바깥 링으로 넓혀 가며
+ * 후보를 모은다. k 번째 후보까지의 거리가 이미 확인한 반경보다 가까우면 탐색을 멈춘다.
+ * 경도 방향 칸은 날짜변경선(±180°)에서 이어지고, 위도 방향은 -90° ~ 90° 범위의 칸만 본다.
+ * 데이터에서 멀리 떨어진 질의나 극지방처럼 링이 잘 좁혀지지 않는 경우, 훑을 칸 수가
+ * 실제로 채워진 칸 수를 넘어서면 전체 목록을 한 번 훑는 쪽으로 바꾼다.
+ */
+public class GeoGridIndex {
+
+    private static final double CELL_DEGREES = 0.05; // 약 5.5km
+    private static final int COLS = (int) Math.round(360 / CELL_DEGREES);
+    private static final int MIN_ROW = row(-90.0);
+    private static final int MAX_ROW = row(90.0);
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180.0;
+
+    private final Map<Long, List<Entry>> cells = new HashMap<>();
+    private final List<Entry> entries = new ArrayList<>();
+
+    public GeoGridIndex(List<FestivalResponseDTO> festivals) {
+        for (FestivalResponseDTO festival : festivals) {
+            if (festival.getLat() == null || festival.getLng() == null) {
+                continue;
+            }
+            Entry entry = new Entry(festival, festival.getLat(), festival.getLng());
+            cells.computeIfAbsent(cellKey(row(entry.lat()), col(entry.lng())), k -> new ArrayList<>()).add(entry);
+            entries.add(entry);
+        }
+    }
+
+    /**
+     * (lat, lng) 에서 가까운 순으로 최대 limit 개를 반환한다.
+     * maxDistanceKm 가 null 이면 거리 제한 없이 k-최근접 질의가 된다.
+     */
+    public List<Neighbor> nearest(double lat, double lng, Double maxDistanceKm, int limit) {
+        if (cells.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        double maxDistance = maxDistanceKm != null ? maxDistanceKm : Double.POSITIVE_INFINITY;
+
+        // 가장 먼 후보가 맨 앞에 오는 max-heap 으로 상위 limit 개만 유지
+        PriorityQueue<Neighbor> best = new PriorityQueue<>(
+                Comparator.comparingDouble(Neighbor::distanceKm).reversed());
+
+        int centerRow = row(lat);
+        int centerCol = col(lng);
+        for (int ring = 0; ; ring++) {
+            long side = 2L * ring + 1;
+            if (side > COLS || side * side > cells.size()) {
+                // 여기서부터는 칸을 하나씩 찾아보는 것보다 전체를 훑는 편이 싸다
+                best.clear();
+                entries.forEach(entry -> offer(entry, lat, lng, maxDistance, limit, best));
+                break;
+            }
+            scanRing(centerRow, centerCol, ring, lat, lng, maxDistance, limit, best);
+
+            // ring 칸까지 훑었으면 그 바깥의 점은 최소 coveredKm 이상 떨어져 있다
+            double coveredKm = coveredRadiusKm(lat, ring);
+            if (coveredKm >= maxDistance) {
+                break;
+            }
+            if (best.size() == limit && best.peek().distanceKm() <= coveredKm) {
+                break;
+            }
+        }
+
+        List<Neighbor> result = new ArrayList<>(best);
+        result.sort(Comparator.comparingDouble(Neighbor::distanceKm));
+        return result;
+    }
+
+    private void scanRing(int centerRow, int centerCol, int ring, double lat, double lng,
+                          double maxDistance, int limit, PriorityQueue<Neighbor> best) {
+        int fromRow = Math.max(centerRow - ring, MIN_ROW);
+        int toRow = Math.min(centerRow + ring, MAX_ROW);
+        for (int row = fromRow; row <= toRow; row++) {
+            boolean edgeRow = row == centerRow - ring || row == centerRow + ring;
+            int step = edgeRow || ring == 0 ? 1 : 2 * ring;
+            for (int col = centerCol - ring; col <= centerCol + ring; col += step) {
+                List<Entry> cell = cells.get(cellKey(row, Math.floorMod(col, COLS)));
+                if (cell == null) {
+                    continue;
+                }
+                for (Entry entry : cell) {
+                    offer(entry, lat, lng, maxDistance, limit, best);
+                }
+            }
+        }
+    }
+
+    private static void offer(Entry entry, double lat, double lng, double maxDistance, int limit,
+                              PriorityQueue<Neighbor> best) {
+        double distance = haversineKm(lat, lng, entry.lat(), entry.lng());
+        if (distance > maxDistance) {
+            return;
+        }
+        if (best.size() < limit) {
+            best.add(new Neighbor(entry.festival(), distance));
+        } else if (distance < best.peek().distanceKm()) {
+            best.poll();
+            best.add(new Neighbor(entry.festival(), distance));
+        }
+    }
+
+    /**
+     * 중심 칸에서 ring 칸까지 훑었을 때 빠짐없이 확인된 반경(km)의 하한.
+     * 바깥 점은 위도가 ring 칸 이상 차이 나거나 경도가 ring 칸 이상 차이 난다. 경도 쪽은 어느 위도에 있든
+     * 그 경도선까지의 최단 거리 asin(cos(lat)·sin(Δlng)) 로 잡는다(극지방에서는 0 에 가까워진다).
+     */
+    private static double coveredRadiusKm(double lat, int ring) {
+        double spanDegrees = ring * CELL_DEGREES;
+        double lngSpan = Math.toRadians(Math.min(spanDegrees, 90.0));
+        double lngKm = Math.asin(Math.cos(Math.toRadians(lat)) * Math.sin(lngSpan)) * EARTH_RADIUS_KM;
+        return Math.max(0.0, Math.min(spanDegrees * KM_PER_DEGREE, lngKm));
+    }
+
+    public static double haversineKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    private static int row(double lat) {
+        return (int) Math.floor(lat / CELL_DEGREES);
+    }
+
+    private static int col(double lng) {
+        return Math.floorMod((int) Math.floor(lng / CELL_DEGREES), COLS);
+    }
+
+    private static long cellKey(int row, int col) {
+        return ((long) row << 32) | (col & 0xffffffffL);
+    }
+
+    private record Entry(FestivalResponseDTO festival, double lat, double lng) {
+    }
+
+    public record Neighbor(FestivalResponseDTO festival, double distanceKm) {
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.festival.cache;
+
+import java.util.function.LongPredicate;
+
+/**
+ * long 키 → int 개수 오픈 어드레싱(선형 탐사) 해시맵. 박싱 없이 수백만 개 키를 담기 위한 용도다.
+ * 0 은 빈 칸 표시로 쓰므로 키로 쓸 수 없고, 개수가 0 이하가 되면 키를 지운다.
+ * 동기화는 하지 않으므로 호출하는 쪽에서 잠근다.
+ */
+final class LongCountMap {
+
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] keys;
+    private int[] counts;
+    private int mask;
+    private int size;
+    private int resizeAt;
+
+    LongCountMap(int expected) {
+        int capacity = Integer.highestOneBit(Math.max(16, (int) (expected / LOAD_FACTOR)) - 1) << 1;
+        allocate(capacity);
+    }
+
+    int size() {
+        return size;
+    }
+
+    int get(long key) {
+        int slot = slot(key);
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                return counts[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return 0;
+    }
+
+    /**
+     * 개수에 delta 를 더하고 결과를 돌려준다.
+     */
+    int add(long key, int delta) {
+        if (key == 0) {
+            throw new IllegalArgumentException("0 은 키로 쓸 수 없습니다.");
+        }
+        int slot = slot(key);
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                int updated = counts[slot] + delta;
+                if (updated <= 0) {
+                    removeAt(slot);
+                    return 0;
+                }
+                counts[slot] = updated;
+                return updated;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if (delta <= 0) {
+            return 0;
+        }
+        keys[slot] = key;
+        counts[slot] = delta;
+        if (++size > resizeAt) {
+            rehash(keys.length << 1);
+        }
+        return delta;
+    }
+
+    void removeIf(LongPredicate predicate) {
+        long[] oldKeys = keys;
+        int[] oldCounts = counts;
+        allocate(keys.length);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0 && !predicate.test(oldKeys[i])) {
+                insertFresh(oldKeys[i], oldCounts[i]);
+            }
+        }
+    }
+
+    private void removeAt(int slot) {
+        // 뒤따르는 탐사 구간을 당겨 와서 빈 칸 때문에 조회가 끊기지 않게 한다
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (keys[next] != 0) {
+            int ideal = slot(keys[next]);
+            boolean movable = gap <= next
+                    ? ideal <= gap || ideal > next
+                    : ideal <= gap && ideal > next;
+            if (movable) {
+                keys[gap] = keys[next];
+                counts[gap] = counts[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[gap] = 0;
+        counts[gap] = 0;
+        size--;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldCounts = counts;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                insertFresh(oldKeys[i], oldCounts[i]);
+            }
+        }
+    }
+
+    private void insertFresh(long key, int count) {
+        int slot = slot(key);
+        while (keys[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        counts[slot] = count;
+        size++;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        counts = new int[capacity];
+        mask = capacity - 1;
+        size = 0;
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private int slot(long key) {
+        // murmur3 fmix64
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h & mask;
+    }
+}
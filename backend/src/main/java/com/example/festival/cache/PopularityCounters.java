@@ -0,0 +1,178 @@
+package com.example.festival.cache;
+
+import com.example.festival.entity.FestivalPopularity;
+import com.example.festival.event.FestivalChangedEvent;
+import com.example.festival.event.PopularityFlushedEvent;
+import com.example.festival.repository.FestivalPopularityRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 축제별 인기 카운터(찜 수, 예약 인원).
+ *
+ * 찜/예약 요청마다 DB 행을 갱신하면 인기 축제 한 행에 잠금이 몰리므로, 메모리의 LongAdder 에만 더하고
+ * flush-interval-ms 마다 모인 증감분을 festival_popularity 에 한 번에 반영한다.
+ * 조회는 항상 메모리 값을 쓰고, 반영할 때마다 바뀐 축제 id 를 담아 PopularityFlushedEvent 를 내
+ * 축제 카탈로그와 축제별 ETag 가 새 값을 따라가게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PopularityCounters {
+
+    private final FestivalPopularityRepository festivalPopularityRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    private volatile Map<Long, Counter> counters = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        counters = load();
+    }
+
+    /**
+     * festival_popularity 는 재계산 cron 에서만 채워지므로, 처음 배포했거나 비어 있으면 기동 직후 바로 채운다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void repairIfEmpty() {
+        if (festivalPopularityRepository.count() == 0) {
+            repair();
+        }
+    }
+
+    public long wishlistCount(Long festivalId) {
+        Counter counter = counters.get(festivalId);
+        return counter != null ? Math.max(counter.wishlistTotal.sum(), 0) : 0;
+    }
+
+    public long reservedHeadCount(Long festivalId) {
+        Counter counter = counters.get(festivalId);
+        return counter != null ? Math.max(counter.headCountTotal.sum(), 0) : 0;
+    }
+
+    public void wishlistChanged(Long festivalId, int delta) {
+        Counter counter = counter(festivalId);
+        counter.wishlistTotal.add(delta);
+        counter.wishlistPending.add(delta);
+    }
+
+    /**
+     * 예약 인원 증감분. 트랜잭션 안이면 커밋 후에 더한다.
+     */
+    public void headCountChanged(Long festivalId, int delta) {
+        if (delta == 0) {
+            return;
+        }
+        Runnable apply = () -> {
+            Counter counter = counter(festivalId);
+            counter.headCountTotal.add(delta);
+            counter.headCountPending.add(delta);
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply.run();
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${festival.popularity.flush-interval-ms:30000}")
+    public synchronized void flush() {
+        Set<Long> flushed = new HashSet<>();
+        for (Map.Entry<Long, Counter> entry : counters.entrySet()) {
+            Counter counter = entry.getValue();
+            // sumThenReset 은 그사이 더해진 값을 잃을 수 있으므로 읽은 만큼만 뺀다
+            long wishlist = counter.wishlistPending.sum();
+            long headCount = counter.headCountPending.sum();
+            if (wishlist == 0 && headCount == 0) {
+                continue;
+            }
+            counter.wishlistPending.add(-wishlist);
+            counter.headCountPending.add(-headCount);
+            try {
+                festivalPopularityRepository.applyDelta(entry.getKey(), wishlist, headCount);
+                flushed.add(entry.getKey());
+            } catch (RuntimeException e) {
+                counter.wishlistPending.add(wishlist);
+                counter.headCountPending.add(headCount);
+                log.warn("축제 인기 집계 반영 실패, 다음 주기에 다시 시도합니다: festivalId={}", entry.getKey(), e);
+            }
+        }
+        if (!flushed.isEmpty()) {
+            eventPublisher.publishEvent(new PopularityFlushedEvent(flushed));
+        }
+    }
+
+    /**
+     * 원본 테이블 기준으로 다시 세고 메모리 값을 통째로 교체한다.
+     * 재계산과 교체 사이에 들어온 변경이나 아직 테이블에 기록되지 않은 찜 변경은 다음 재계산 때 맞춰진다.
+     */
+    @Scheduled(cron = "${festival.popularity.repair-cron:0 10 5 * * *}")
+    public synchronized void repair() {
+        flush();
+        transactionTemplate.executeWithoutResult(status -> festivalPopularityRepository.rebuildAll());
+        Map<Long, Counter> fresh = load();
+        // 값이 맞춰졌을 수 있는 축제는 교체 전후 어느 쪽에든 있던 축제 전부다
+        Set<Long> festivalIds = new HashSet<>(counters.keySet());
+        festivalIds.addAll(fresh.keySet());
+        counters = fresh;
+        eventPublisher.publishEvent(new PopularityFlushedEvent(festivalIds));
+        log.info("축제 인기 집계 재계산 완료: {}개 축제", fresh.size());
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFestivalChanged(FestivalChangedEvent event) {
+        if (event.getType() == FestivalChangedEvent.Type.DELETED) {
+            counters.remove(event.getFestivalId());
+        }
+    }
+
+    private Map<Long, Counter> load() {
+        Map<Long, Counter> loaded = new ConcurrentHashMap<>();
+        for (FestivalPopularity row : festivalPopularityRepository.findAll()) {
+            Counter counter = new Counter();
+            counter.wishlistTotal.add(row.getWishlistCount());
+            counter.headCountTotal.add(row.getReservedHeadCount());
+            loaded.put(row.getFestivalId(), counter);
+        }
+        return loaded;
+    }
+
+    private Counter counter(Long festivalId) {
+        return counters.computeIfAbsent(festivalId, id -> new Counter());
+    }
+
+    private static final class Counter {
+        final LongAdder wishlistTotal = new LongAdder();
+        final LongAdder wishlistPending = new LongAdder();
+        final LongAdder headCountTotal = new LongAdder();
+        final LongAdder headCountPending = new LongAdder();
+    }
+}
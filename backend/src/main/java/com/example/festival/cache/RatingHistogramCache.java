@@ -0,0 +1,94 @@
+package com.example.festival.cache;
+
+import com.example.festival.entity.FestivalRatingBucket;
+import com.example.festival.event.FestivalChangedEvent;
+import com.example.festival.repository.FestivalRatingBucketRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * festival_rating_bucket 의 인메모리 사본. 축제별로 처음 조회할 때 한 번 읽고,
+ * 이후에는 리뷰 트랜잭션이 커밋될 때 같은 증감분을 반영한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RatingHistogramCache {
+
+    public static final int BUCKETS = 10; // 0.5 ~ 5.0
+
+    private final FestivalRatingBucketRepository festivalRatingBucketRepository;
+
+    private final Map<Long, AtomicLongArray> histograms = new ConcurrentHashMap<>();
+
+    /**
+     * 평점을 0.5점 단위 구간(1~10)으로 바꾼다. null 이면 0(분포에 넣지 않음).
+     */
+    public static int halfStars(Double rating) {
+        if (rating == null) {
+            return 0;
+        }
+        return (int) Math.max(1, Math.min(BUCKETS, Math.round(rating * 2)));
+    }
+
+    /**
+     * 구간별 리뷰 수 사본. 인덱스 0 이 0.5점.
+     */
+    public long[] counts(Long festivalId) {
+        AtomicLongArray histogram = histogram(festivalId);
+        long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = histogram.get(i);
+        }
+        return counts;
+    }
+
+    public void applyAfterCommit(Long festivalId, int halfStars, long delta) {
+        // 아직 읽지 않은 축제는 처음 조회할 때 커밋된 값을 읽으므로 건너뛴다.
+        // 읽는 중이면 computeIfPresent 가 적재가 끝날 때까지 기다렸다가 더한다(get 은 적재 중 null 을 돌려줘 증감분을 잃는다).
+        // 적재 쿼리가 이미 이 커밋을 본 경우의 중복은 매일 재집계 후 clear() 로 바로잡힌다.
+        Runnable apply = () -> histograms.computeIfPresent(festivalId, (id, histogram) -> {
+            histogram.addAndGet(halfStars - 1, delta);
+            return histogram;
+        });
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply.run();
+            }
+        });
+    }
+
+    public void clear() {
+        histograms.clear();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFestivalChanged(FestivalChangedEvent event) {
+        if (event.getType() == FestivalChangedEvent.Type.DELETED) {
+            histograms.remove(event.getFestivalId());
+        }
+    }
+
+    private AtomicLongArray histogram(Long festivalId) {
+        return histograms.computeIfAbsent(festivalId, id -> {
+            AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+            for (FestivalRatingBucket bucket : festivalRatingBucketRepository.findByFestivalId(id)) {
+                if (bucket.getHalfStars() >= 1 && bucket.getHalfStars() <= BUCKETS) {
+                    histogram.set(bucket.getHalfStars() - 1, bucket.getReviewCount());
+                }
+            }
+            return histogram;
+        });
+    }
+}
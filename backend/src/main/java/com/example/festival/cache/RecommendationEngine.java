@@ -0,0 +1,266 @@
+package com.example.festival.cache;
+
+import com.example.festival.dto.FestivalResponseDTO;
+import com.example.festival.entity.Reservation;
+import com.example.festival.entity.User;
+import com.example.festival.event.ReservationChangedEvent;
+import com.example.festival.event.ReviewChangedEvent;
+import com.example.festival.event.UserProfileChangedEvent;
+import com.example.festival.event.WishlistChangedEvent;
+import com.example.festival.repository.ReservationArchiveRepository;
+import com.example.festival.repository.ReservationRepository;
+import com.example.festival.repository.ReviewRepository;
+import com.example.festival.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 사용자별 추천 축제 순위를 미리 계산해 메모리에 들고 있는 엔진.
+ *
+ * 점수 = 관심사 카테고리 일치 + 예약/찜/리뷰한 축제와의 카테고리 동시 출현 + 평점 + 일정 근접도.
+ * 사용자의 예약/찜/리뷰/관심사가 바뀌거나 카탈로그를 DB 에서 다시 읽으면 백그라운드에서 다시 계산하고,
+ * 그 사이에는 직전 순위를 그대로 내보낸다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecommendationEngine {
+
+    private static final double INTEREST_WEIGHT = 3.0;
+    private static final double AFFINITY_WEIGHT = 2.0;
+    private static final double RATING_WEIGHT = 1.0;
+    private static final double SCHEDULE_WEIGHT = 1.5;
+    private static final double ALREADY_RESERVED_PENALTY = 0.5;
+    private static final int SCHEDULE_HORIZON_DAYS = 60;
+
+    private static final double RESERVATION_SIGNAL = 3.0;
+    private static final double WISHLIST_SIGNAL = 2.0;
+    private static final double REVIEW_SIGNAL = 2.0;
+
+    private final FestivalCatalog festivalCatalog;
+    private final CategoryDictionary categoryDictionary;
+    private final UserRepository userRepository;
+    private final ReservationRepository reservationRepository;
+    private final ReservationArchiveRepository reservationArchiveRepository;
+    private final WishlistStore wishlistStore;
+    private final ReviewRepository reviewRepository;
+
+    @Value("${festival.recommendation.max-candidates:200}")
+    private int maxCandidates;
+
+    @Value("${festival.recommendation.max-users:10000}")
+    private int maxUsers;
+
+    private final Set<Long> refreshQueued = ConcurrentHashMap.newKeySet();
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "festival-recommendation");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private Map<Long, Ranking> rankings; // 접근 순서 기준 LRU
+
+    /**
+     * userId 의 추천 목록 중 [offset, offset + limit) 구간. 순위는 상위 max-candidates 개까지만 들고 있으므로
+     * 그 뒤 구간은 비어 있다. 처음 요청된 사용자는 호출 스레드에서 바로 계산한다.
+     */
+    public List<FestivalResponseDTO> recommend(Long userId, int offset, int limit) {
+        Ranking ranking = rankings.get(userId);
+        if (ranking == null) {
+            ranking = compute(userId);
+        } else if (ranking.stale() || ranking.catalogVersion() != festivalCatalog.snapshot().getBaseVersion()) {
+            scheduleRefresh(userId);
+        }
+
+        List<FestivalResponseDTO> festivals = ranking.festivals();
+        int from = Math.min(Math.max(offset, 0), festivals.size());
+        int to = (int) Math.min((long) from + Math.max(limit, 0), festivals.size());
+        return festivals.subList(from, to);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        markStale(event.getUserId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWishlistChanged(WishlistChangedEvent event) {
+        markStale(event.getUserId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewChanged(ReviewChangedEvent event) {
+        markStale(event.getUserId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserProfileChanged(UserProfileChangedEvent event) {
+        markStale(event.getUserId());
+    }
+
+    private void markStale(Long userId) {
+        Ranking ranking = rankings.get(userId);
+        if (ranking == null) {
+            return; // 아직 요청한 적 없는 사용자는 첫 요청 때 계산한다
+        }
+        rankings.put(userId, ranking.markStale());
+        scheduleRefresh(userId);
+    }
+
+    private void scheduleRefresh(Long userId) {
+        if (!refreshQueued.add(userId)) {
+            return;
+        }
+        refreshExecutor.execute(() -> {
+            refreshQueued.remove(userId);
+            try {
+                compute(userId);
+            } catch (RuntimeException e) {
+                log.warn("추천 목록 갱신 실패: userId={}", userId, e);
+            }
+        });
+    }
+
+    private Ranking compute(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
+
+        CatalogSnapshot snapshot = festivalCatalog.snapshot();
+        long interestMask = categoryDictionary.maskOf(categoryDictionary.parse(user.getInterest()));
+        int interestCount = Long.bitCount(interestMask);
+
+        // 사용자가 반응한 축제들의 카테고리별 가중치 (카테고리 동시 출현)
+        double[] affinity = new double[CategoryDictionary.MAX_MASK_CATEGORIES];
+        double affinityTotal = 0;
+        Set<Long> reserved = new LinkedHashSet<>(
+                reservationRepository.findFestivalIdsByUser(userId, Reservation.Status.CANCELLED));
+        reserved.addAll(reservationArchiveRepository.findFestivalIdsByUser(userId, Reservation.Status.CANCELLED));
+        Map<Long, Double> signals = new LinkedHashMap<>();
+        reserved.forEach(id -> signals.merge(id, RESERVATION_SIGNAL, Double::sum));
+        for (long id : wishlistStore.festivalIds(userId)) {
+            signals.merge(id, WISHLIST_SIGNAL, Double::sum);
+        }
+        reviewRepository.findRatingsByUser(userId).forEach(r -> {
+            double rating = r.getRating() != null ? r.getRating() : 2.5;
+            signals.merge(r.getFestivalId(), REVIEW_SIGNAL * (rating - 2.5) / 2.5, Double::sum);
+        });
+
+        Map<Long, Integer> indexById = new LinkedHashMap<>();
+        List<FestivalResponseDTO> festivals = snapshot.getFestivals();
+        for (int i = 0; i < festivals.size(); i++) {
+            indexById.put(festivals.get(i).getId(), i);
+        }
+        for (Map.Entry<Long, Double> signal : signals.entrySet()) {
+            Integer index = indexById.get(signal.getKey());
+            if (index == null) {
+                continue;
+            }
+            long mask = snapshot.getCategoryMask(index);
+            while (mask != 0L) {
+                int bit = Long.numberOfTrailingZeros(mask);
+                affinity[bit] += signal.getValue();
+                affinityTotal += Math.abs(signal.getValue());
+                mask &= mask - 1;
+            }
+        }
+
+        LocalDate today = LocalDate.now();
+        Set<Long> reservedSet = Set.copyOf(reserved);
+        List<Scored> scored = new ArrayList<>(festivals.size());
+        for (int i = 0; i < festivals.size(); i++) {
+            FestivalResponseDTO festival = festivals.get(i);
+            long mask = snapshot.getCategoryMask(i);
+
+            double score = 0;
+            if (interestCount > 0) {
+                score += INTEREST_WEIGHT * Long.bitCount(mask & interestMask) / interestCount;
+            }
+            if (affinityTotal > 0) {
+                double categoryAffinity = 0;
+                long remaining = mask;
+                while (remaining != 0L) {
+                    categoryAffinity += affinity[Long.numberOfTrailingZeros(remaining)];
+                    remaining &= remaining - 1;
+                }
+                score += AFFINITY_WEIGHT * categoryAffinity / affinityTotal;
+            }
+            if (festival.getAverageRating() != null) {
+                score += RATING_WEIGHT * festival.getAverageRating() / 5.0;
+            }
+            score += SCHEDULE_WEIGHT * scheduleScore(festival, today);
+            if (reservedSet.contains(festival.getId())) {
+                score -= ALREADY_RESERVED_PENALTY;
+            }
+            scored.add(new Scored(festival, score));
+        }
+
+        List<FestivalResponseDTO> ranked = scored.stream()
+                .sorted(Comparator.comparingDouble(Scored::score).reversed())
+                .limit(maxCandidates)
+                .map(Scored::festival)
+                .toList();
+
+        // 인기 카운터만 바뀐 스냅샷으로는 다시 계산하지 않는다(점수에 쓰지 않는다)
+        Ranking ranking = new Ranking(snapshot.getBaseVersion(), ranked, false);
+        rankings.put(userId, ranking);
+        return ranking;
+    }
+
+    /**
+     * 진행 중이면 1, 시작이 가까울수록 1 에 가깝고, 이미 끝난 축제는 -1.
+     */
+    private double scheduleScore(FestivalResponseDTO festival, LocalDate today) {
+        if (festival.getEndDate() != null && festival.getEndDate().isBefore(today)) {
+            return -1.0;
+        }
+        if (festival.getStartDate() == null || !festival.getStartDate().isAfter(today)) {
+            return 1.0;
+        }
+        long days = ChronoUnit.DAYS.between(today, festival.getStartDate());
+        return Math.max(0.0, 1.0 - (double) days / SCHEDULE_HORIZON_DAYS);
+    }
+
+    @PostConstruct
+    public void init() {
+        int capacity = maxUsers;
+        rankings = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Ranking> eldest) {
+                return size() > capacity;
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private record Scored(FestivalResponseDTO festival, double score) {
+    }
+
+    private record Ranking(long catalogVersion, List<FestivalResponseDTO> festivals, boolean stale) {
+        Ranking markStale() {
+            return new Ranking(catalogVersion, festivals, true);
+        }
+    }
+}
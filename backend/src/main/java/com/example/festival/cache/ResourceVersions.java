@@ -0,0 +1,158 @@
+package com.example.festival.cache;
+
+import com.example.festival.event.FestivalChangedEvent;
+import com.example.festival.event.PopularityFlushedEvent;
+import com.example.festival.event.ProductChangedEvent;
+import com.example.festival.event.RatingAggregatesRepairedEvent;
+import com.example.festival.event.ReviewChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 조건부 GET(ETag / Last-Modified)용 리소스 버전 카운터.
+ *
+ * 쓰기 트랜잭션이 커밋된 뒤 해당 축제/상품의 버전을 올린다. 카탈로그에서 나가는 축제 목록은
+ * 스냅샷 버전을 그대로 쓴다. ETag 에는 기동마다 바뀌는 값을 넣어 재시작 전 ETag 와 겹치지 않게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ResourceVersions {
+
+    private final FestivalCatalog festivalCatalog;
+
+    private final String epoch = UUID.randomUUID().toString().substring(0, 8);
+    private final long startedAt = System.currentTimeMillis();
+
+    private final Map<Long, Stamp> festivals = new ConcurrentHashMap<>();
+    private final Map<Long, Stamp> festivalProducts = new ConcurrentHashMap<>();
+    private final Map<Long, Stamp> products = new ConcurrentHashMap<>();
+    private final AtomicReference<Stamp> productCollection = new AtomicReference<>();
+    // 평점 일괄 재계산처럼 축제 전체가 바뀌었을 수 있을 때 올린다. 축제 단건 ETag 에 함께 들어간다
+    private final AtomicReference<Stamp> festivalGeneration = new AtomicReference<>();
+    // 상품 응답에 들어가는 축제 정보가 바뀌면 올린다. 상품 단건 ETag 에 함께 들어간다
+    private final AtomicReference<Stamp> productGeneration = new AtomicReference<>();
+
+    /** 카탈로그 스냅샷에서 나가는 축제 목록들 */
+    public Stamp festivalCollection() {
+        CatalogSnapshot snapshot = festivalCatalog.snapshot();
+        long builtAt = snapshot.getBuiltAt()
+                .atZone(ZoneId.systemDefault())
+                .toInstant()
+                .toEpochMilli();
+        return new Stamp(tag("fc", 0L, snapshot.getVersion()), builtAt, snapshot.getVersion());
+    }
+
+    /** 오늘 날짜 기준 목록(진행 중/예정). 날짜가 바뀌어도 달라진다. */
+    public Stamp festivalDayView() {
+        FestivalCatalog.DayView view = festivalCatalog.dayView();
+        Stamp collection = festivalCollection();
+        return new Stamp(tag("fd" + view.date().toEpochDay(), 0L, view.snapshotVersion()),
+                collection.lastModified(), view.snapshotVersion());
+    }
+
+    public Stamp festival(Long festivalId) {
+        Stamp stamp = festivals.getOrDefault(festivalId, initial("f", festivalId));
+        Stamp generation = festivalGeneration.get();
+        if (generation == null) {
+            return stamp;
+        }
+        return new Stamp(tag("f" + generation.version(), festivalId, stamp.version()),
+                Math.max(stamp.lastModified(), generation.lastModified()), stamp.version());
+    }
+
+    public Stamp festivalProducts(Long festivalId) {
+        return festivalProducts.getOrDefault(festivalId, initial("fp", festivalId));
+    }
+
+    public Stamp products() {
+        Stamp current = productCollection.get();
+        return current != null ? current : initial("pc", 0L);
+    }
+
+    public Stamp product(Long productId) {
+        Stamp stamp = products.getOrDefault(productId, initial("p", productId));
+        Stamp generation = productGeneration.get();
+        if (generation == null) {
+            return stamp;
+        }
+        return new Stamp(tag("p" + generation.version(), productId, stamp.version()),
+                Math.max(stamp.lastModified(), generation.lastModified()), stamp.version());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFestivalChanged(FestivalChangedEvent event) {
+        Long festivalId = event.getFestivalId();
+        bump(festivals, "f", festivalId);
+        // 상품 응답에 축제 이름이 들어가므로 상품 쪽도 함께 올린다
+        bump(festivalProducts, "fp", festivalId);
+        bumpGeneration(productGeneration, "pg");
+        bumpProductCollection();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewChanged(ReviewChangedEvent event) {
+        bump(festivals, "f", event.getFestivalId()); // 평균 평점 변경
+    }
+
+    @EventListener
+    public void onPopularityFlushed(PopularityFlushedEvent event) {
+        event.getFestivalIds().forEach(festivalId -> bump(festivals, "f", festivalId)); // 찜 수, 예약 인원 변경
+    }
+
+    @EventListener
+    public void onRatingAggregatesRepaired(RatingAggregatesRepairedEvent event) {
+        bumpGeneration(festivalGeneration, "fg");
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        bump(products, "p", event.getProductId());
+        if (event.getFestivalId() != null) {
+            bump(festivalProducts, "fp", event.getFestivalId());
+        }
+        bumpProductCollection();
+    }
+
+    private void bump(Map<Long, Stamp> stamps, String kind, Long id) {
+        long now = System.currentTimeMillis();
+        stamps.compute(id, (key, previous) -> {
+            long version = previous != null ? previous.version() + 1 : 1L;
+            return new Stamp(tag(kind, id, version), now, version);
+        });
+    }
+
+    private void bumpGeneration(AtomicReference<Stamp> generation, String kind) {
+        long now = System.currentTimeMillis();
+        generation.updateAndGet(previous -> {
+            long version = previous != null ? previous.version() + 1 : 1L;
+            return new Stamp(tag(kind, 0L, version), now, version);
+        });
+    }
+
+    private void bumpProductCollection() {
+        long now = System.currentTimeMillis();
+        productCollection.updateAndGet(previous -> {
+            long version = previous != null ? previous.version() + 1 : 1L;
+            return new Stamp(tag("pc", 0L, version), now, version);
+        });
+    }
+
+    private Stamp initial(String kind, Long id) {
+        return new Stamp(tag(kind, id, 0L), startedAt, 0L);
+    }
+
+    private String tag(String kind, Long id, long version) {
+        return "\"" + kind + "-" + id + "-" + epoch + "-" + version + "\"";
+    }
+
+    public record Stamp(String etag, long lastModified, long version) {
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.festival.cache;
+
+import com.example.festival.entity.Reservation;
+import com.example.festival.event.FestivalChangedEvent;
+import com.example.festival.repository.ReservationArchiveRepository;
+import com.example.festival.repository.ReservationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 리뷰 작성 자격 인덱스: (userId, festivalId) 별 취소되지 않은 예약 수.
+ *
+ * 키는 userId << 32 | festivalId 인 long 하나로, 박싱 없는 LongCountMap 에 담는다.
+ * 예약 생성/취소/삭제가 커밋되면 개수를 증감하고, 기동 시와 매일 새벽에 reservation / reservation_archive
+ * 기준으로 통째로 다시 만든다. 처음 적재가 끝나기 전에는 DB 로 확인한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewEligibilityIndex {
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationArchiveRepository reservationArchiveRepository;
+
+    private LongCountMap counts;          // null 이면 아직 적재 전
+    private List<long[]> pendingDeltas;   // 적재 중에 커밋된 증감분 (key, delta)
+
+    public static long key(Long userId, Long festivalId) {
+        return (userId << 32) | (festivalId & 0xffffffffL);
+    }
+
+    public boolean isEligible(Long userId, Long festivalId) {
+        synchronized (this) {
+            if (counts != null) {
+                return counts.get(key(userId, festivalId)) > 0;
+            }
+        }
+        return reservationRepository.existsByUser_UserIdAndFestival_FestivalIdAndStatusNot(
+                        userId, festivalId, Reservation.Status.CANCELLED)
+                || reservationArchiveRepository.existsByUser_UserIdAndFestival_FestivalIdAndStatusNot(
+                        userId, festivalId, Reservation.Status.CANCELLED);
+    }
+
+    /**
+     * 예약 상태 변경분을 커밋 후 반영한다. before / after 가 null 이면 각각 생성 / 삭제.
+     */
+    public void reservationChanged(Long userId, Long festivalId, Reservation.Status before, Reservation.Status after) {
+        int delta = countOf(after) - countOf(before);
+        if (delta == 0) {
+            return;
+        }
+        long key = key(userId, festivalId);
+        Runnable apply = () -> apply(key, delta);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply.run();
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        rebuild();
+    }
+
+    @Scheduled(cron = "${festival.review-eligibility.rebuild-cron:0 50 4 * * *}")
+    public void rebuild() {
+        synchronized (this) {
+            pendingDeltas = new ArrayList<>();
+        }
+        LongCountMap fresh;
+        try {
+            List<Object[]> rows = new ArrayList<>(
+                    reservationRepository.countActiveByUserAndFestival(Reservation.Status.CANCELLED));
+            rows.addAll(reservationArchiveRepository.countActiveByUserAndFestival(Reservation.Status.CANCELLED));
+            fresh = new LongCountMap(rows.size());
+            for (Object[] row : rows) {
+                fresh.add(key((Long) row[0], (Long) row[1]), ((Long) row[2]).intValue());
+            }
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                pendingDeltas = null;
+            }
+            log.warn("리뷰 작성 자격 인덱스 적재 실패, 기존 상태를 유지합니다.", e);
+            return;
+        }
+        synchronized (this) {
+            // 조회와 겹쳐 커밋된 변경은 조회 결과에 이미 들어 있을 수도 있지만, 0/1 경계에서만 의미가 있고
+            // 다음 재생성 때 바로잡힌다
+            for (long[] delta : pendingDeltas) {
+                fresh.add(delta[0], (int) delta[1]);
+            }
+            pendingDeltas = null;
+            counts = fresh;
+        }
+        log.info("리뷰 작성 자격 인덱스 적재 완료: {}쌍", fresh.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFestivalChanged(FestivalChangedEvent event) {
+        if (event.getType() != FestivalChangedEvent.Type.DELETED) {
+            return;
+        }
+        long festivalId = event.getFestivalId() & 0xffffffffL;
+        synchronized (this) {
+            if (counts != null) {
+                counts.removeIf(key -> (key & 0xffffffffL) == festivalId);
+            }
+        }
+    }
+
+    private synchronized void apply(long key, int delta) {
+        if (pendingDeltas != null) {
+            pendingDeltas.add(new long[]{key, delta});
+        }
+        if (counts != null) {
+            counts.add(key, delta);
+        }
+    }
+
+    private static int countOf(Reservation.Status status) {
+        return status != null && status != Reservation.Status.CANCELLED ? 1 : 0;
+    }
+}
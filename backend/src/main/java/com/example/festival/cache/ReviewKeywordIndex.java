@@ -0,0 +1,248 @@
+package com.example.festival.cache;
+
+import com.example.festival.dto.ReviewKeywordDTO;
+import com.example.festival.event.FestivalChangedEvent;
+import com.example.festival.repository.ReviewRepository;
+import com.example.festival.support.ReviewTokenizer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Stream;
+
+/**
+ * 축제별 리뷰 키워드 요약.
+ *
+ * 리뷰가 작성/수정/삭제되면 커밋 후 전용 스레드가 본문을 토큰화해 축제별 단어 가중치(tf)와
+ * 전체 리뷰 기준 문서 빈도(df)에 증감분만 반영한다. 가중치는 리뷰 수정 시각 기준으로 half-life 만큼 지나면
+ * 절반이 되도록 감쇠하는데, 매번 전체를 깎지 않고 새 리뷰에 더 큰 가중치를 주는 방식(forward decay)이라
+ * 기준 시각(landmark)이 같은 동안은 예전 리뷰의 기여분을 정확히 빼낼 수 있다.
+ * 조회는 tf × idf 상위 키워드를 축제별로 잠시 캐시해 두고 돌려준다.
+ *
+ * 축제 삭제 시 df 에 남는 차이와 재적재 중에 겹친 변경은 매일 새벽 재생성으로 바로잡는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewKeywordIndex {
+
+    public static final int MAX_KEYWORDS = 50;
+
+    // 가중치는 landmark 이전 리뷰일수록 지수적으로 작아지므로 절대값이 아니라 더한 값들의 크기에 대한 비율로 본다
+    private static final double RELATIVE_EPSILON = 1e-9;
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final ReviewRepository reviewRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${festival.review-keywords.half-life:P30D}")
+    private Duration halfLife;
+
+    @Value("${festival.review-keywords.refresh:PT1M}")
+    private Duration refresh;
+
+    private ExecutorService worker;
+    private volatile State state;
+
+    @PostConstruct
+    public void start() {
+        worker = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "review-keywords");
+            thread.setDaemon(true);
+            return thread;
+        });
+        state = new State(System.currentTimeMillis());
+    }
+
+    @PreDestroy
+    public void stop() {
+        worker.shutdownNow();
+    }
+
+    /**
+     * 리뷰 본문 변경분을 커밋 후 반영한다. 작성이면 before 가, 삭제면 after 가 null.
+     */
+    public void reviewChanged(Long festivalId,
+                              String beforeContent, LocalDateTime beforeModified,
+                              String afterContent, LocalDateTime afterModified) {
+        Runnable apply = () -> submit(() -> {
+            State current = state;
+            if (beforeModified != null) {
+                current.apply(festivalId, beforeContent, beforeModified, -1);
+            }
+            if (afterModified != null) {
+                current.apply(festivalId, afterContent, afterModified, 1);
+            }
+        });
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply.run();
+            }
+        });
+    }
+
+    public List<ReviewKeywordDTO> topKeywords(Long festivalId, int limit) {
+        State current = state;
+        FestivalTerms terms = current.festivals.get(festivalId);
+        if (terms == null) {
+            return List.of();
+        }
+        List<ReviewKeywordDTO> top = terms.top(current, refresh.toMillis());
+        return top.size() > limit ? top.subList(0, limit) : top;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        rebuild();
+    }
+
+    @Scheduled(cron = "${festival.review-keywords.rebuild-cron:0 55 4 * * *}")
+    public void rebuild() {
+        // 쓰기 작업과 같은 스레드에서 돌려, 재생성 도중 들어온 변경은 교체 뒤에 반영되게 한다
+        submit(() -> {
+            State fresh = new State(System.currentTimeMillis());
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    try (Stream<ReviewRepository.ReviewContentRow> rows = reviewRepository.streamContents()) {
+                        rows.forEach(row -> fresh.apply(row.getFestivalId(), row.getContent(), row.getLastModified(), 1));
+                    }
+                });
+            } catch (RuntimeException e) {
+                log.warn("리뷰 키워드 색인 재생성 실패, 기존 색인을 유지합니다.", e);
+                return;
+            }
+            state = fresh;
+            log.info("리뷰 키워드 색인 재생성 완료: 축제 {}개, 리뷰 {}건", fresh.festivals.size(), fresh.documentCount);
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFestivalChanged(FestivalChangedEvent event) {
+        if (event.getType() == FestivalChangedEvent.Type.DELETED) {
+            submit(() -> state.festivals.remove(event.getFestivalId()));
+        }
+    }
+
+    private void submit(Runnable task) {
+        try {
+            worker.execute(() -> {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    log.warn("리뷰 키워드 색인 갱신 실패", e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+        }
+    }
+
+    /**
+     * 한 번 적재한 색인 전체. 쓰기는 worker 스레드 하나에서만 한다.
+     */
+    private final class State {
+        final long landmarkMillis;
+        final Map<Long, FestivalTerms> festivals = new ConcurrentHashMap<>();
+        final Map<String, Integer> documentFrequency = new ConcurrentHashMap<>();
+        volatile long documentCount;
+
+        State(long landmarkMillis) {
+            this.landmarkMillis = landmarkMillis;
+        }
+
+        void apply(Long festivalId, String content, LocalDateTime modified, int sign) {
+            Map<String, Integer> counts = ReviewTokenizer.termCounts(content);
+            documentCount += sign;
+            if (counts.isEmpty()) {
+                return;
+            }
+            double decay = modified != null ? decayWeight(modified.atZone(ZONE).toInstant().toEpochMilli()) : 1;
+            Map<String, Double> deltas = new HashMap<>(counts.size() * 2);
+            counts.forEach((term, count) -> {
+                documentFrequency.compute(term, (t, df) -> {
+                    int next = (df != null ? df : 0) + sign;
+                    return next > 0 ? next : null;
+                });
+                deltas.put(term, sign * (1 + Math.log(count)) * decay);
+            });
+            festivals.computeIfAbsent(festivalId, id -> new FestivalTerms()).add(deltas);
+        }
+
+        double decayWeight(long epochMillis) {
+            return Math.pow(2, (double) (epochMillis - landmarkMillis) / halfLife.toMillis());
+        }
+
+        double idf(String term) {
+            int df = documentFrequency.getOrDefault(term, 0);
+            return Math.log((1.0 + documentCount) / (1.0 + df)) + 1;
+        }
+    }
+
+    private static final class FestivalTerms {
+        private final Map<String, Double> weights = new HashMap<>();
+        private List<ReviewKeywordDTO> top;
+        private long topComputedAt;
+
+        synchronized void add(Map<String, Double> deltas) {
+            deltas.forEach((term, delta) -> weights.merge(term, delta, (a, b) -> {
+                double sum = a + b;
+                // 같은 기여분을 빼서 사실상 0 이 된 경우만 지운다
+                return Math.abs(sum) > RELATIVE_EPSILON * Math.max(Math.abs(a), Math.abs(b)) ? sum : null;
+            }));
+            top = null;
+        }
+
+        synchronized List<ReviewKeywordDTO> top(State state, long refreshMillis) {
+            long now = System.currentTimeMillis();
+            // df 는 다른 축제 리뷰로도 바뀌므로, 자기 리뷰가 그대로여도 refresh 주기마다 다시 계산한다
+            if (top != null && now - topComputedAt < refreshMillis) {
+                return top;
+            }
+            double scale = state.decayWeight(now);
+            PriorityQueue<ReviewKeywordDTO> heap =
+                    new PriorityQueue<>(Comparator.comparingDouble(ReviewKeywordDTO::getScore));
+            weights.forEach((term, weight) -> {
+                if (weight <= 0) {
+                    return;
+                }
+                heap.add(new ReviewKeywordDTO(term, weight / scale * state.idf(term)));
+                if (heap.size() > MAX_KEYWORDS) {
+                    heap.poll();
+                }
+            });
+            List<ReviewKeywordDTO> sorted = new ArrayList<>(heap);
+            sorted.sort(Comparator.comparingDouble(ReviewKeywordDTO::getScore).reversed());
+            top = List.copyOf(sorted);
+            topComputedAt = now;
+            return top;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.festival.cache;
+
+import com.example.festival.dto.SlotAvailabilityDTO;
+import com.example.festival.entity.ProductSlot;
+import com.example.festival.event.FestivalChangedEvent;
+import com.example.festival.repository.ProductSlotRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 상품 슬롯(날짜 x 시간대)별 수용 인원/점유 인원의 인메모리 카운터.
+ *
+ * DB 의 product_slot.reserved 가 기준값이고, 예약/취소 트랜잭션이 커밋된 뒤 같은 증감분을 여기에 반영한다.
+ * 잔여석 조회는 이 카운터만 읽으며, 예약 시에는 명백히 자리가 없는 요청을 DB 에 가기 전에 걸러낸다.
+ * 상품별로 처음 접근할 때 product_slot 에서 한 번 읽어 온다.
+ *
+ * 적재가 예약 커밋과 그 afterCommit 사이에 끼면 같은 점유분이 두 번 더해질 수 있고, 교체 도중 반영된 증감분은
+ * 빠질 수 있다. 어긋난 값이 남아 자리가 있는데도 미리 거절하지 않도록 reload-interval-ms 마다 적재된 상품을
+ * product_slot 기준으로 다시 읽어 맞춘다. 최종 판단은 언제나 DB 조건부 갱신이 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SlotCapacityLedger {
+
+    private final ProductSlotRepository productSlotRepository;
+
+    private final Map<Long, NavigableMap<SlotKey, Counter>> slotsByProduct = new ConcurrentHashMap<>();
+
+    public boolean hasSlot(Long productId, LocalDate date, LocalTime time) {
+        return slots(productId).containsKey(new SlotKey(date, time));
+    }
+
+    /**
+     * 메모리 기준 잔여 인원. 슬롯이 없으면 Integer.MAX_VALUE.
+     */
+    public int remaining(Long productId, LocalDate date, LocalTime time) {
+        Counter counter = slots(productId).get(new SlotKey(date, time));
+        return counter != null ? counter.capacity - counter.reserved.get() : Integer.MAX_VALUE;
+    }
+
+    public List<SlotAvailabilityDTO> availability(Long productId, LocalDate from, LocalDate to) {
+        NavigableMap<SlotKey, Counter> range = slots(productId).subMap(
+                new SlotKey(from, LocalTime.MIN), true,
+                new SlotKey(to, LocalTime.MAX), true);
+
+        List<SlotAvailabilityDTO> result = new ArrayList<>(range.size());
+        range.forEach((key, counter) -> {
+            int reserved = counter.reserved.get();
+            result.add(SlotAvailabilityDTO.builder()
+                    .date(key.date().toString())
+                    .time(key.time().toString())
+                    .capacity(counter.capacity)
+                    .reserved(reserved)
+                    .remaining(Math.max(0, counter.capacity - reserved))
+                    .build());
+        });
+        return result;
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 점유 인원에 delta 를 더한다. 트랜잭션 밖이면 바로 반영한다.
+     */
+    public void applyAfterCommit(Long productId, LocalDate date, LocalTime time, int delta) {
+        Runnable apply = () -> {
+            Counter counter = slots(productId).get(new SlotKey(date, time));
+            if (counter != null) {
+                counter.reserved.addAndGet(delta);
+            }
+        };
+        runAfterCommit(apply);
+    }
+
+    /**
+     * 슬롯 정의가 바뀐 상품은 다음 접근 때 DB 에서 다시 읽는다.
+     */
+    public void evictAfterCommit(Long productId) {
+        runAfterCommit(() -> slotsByProduct.remove(productId));
+    }
+
+    @Scheduled(fixedDelayString = "${festival.slot.reload-interval-ms:60000}")
+    public void reload() {
+        Set<Long> productIds = Set.copyOf(slotsByProduct.keySet());
+        if (productIds.isEmpty()) {
+            return;
+        }
+        Map<Long, NavigableMap<SlotKey, Counter>> fresh = new HashMap<>();
+        productIds.forEach(id -> fresh.put(id, new ConcurrentSkipListMap<>()));
+        for (ProductSlot slot : productSlotRepository.findByProduct_ProductIdIn(productIds)) {
+            put(fresh.get(slot.getProduct().getProductId()), slot);
+        }
+        fresh.forEach((productId, slots) -> {
+            NavigableMap<SlotKey, Counter> current = slotsByProduct.get(productId);
+            if (current != null) {
+                slotsByProduct.replace(productId, current, slots); // 그사이 비워진 상품은 다음 접근 때 읽는다
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFestivalChanged(FestivalChangedEvent event) {
+        if (event.getType() == FestivalChangedEvent.Type.DELETED) {
+            slotsByProduct.clear(); // 드문 작업이라 상품 단위로 추적하지 않는다
+        }
+    }
+
+    private NavigableMap<SlotKey, Counter> slots(Long productId) {
+        return slotsByProduct.computeIfAbsent(productId, id -> {
+            NavigableMap<SlotKey, Counter> slots = new ConcurrentSkipListMap<>();
+            for (ProductSlot slot : productSlotRepository.findByProduct_ProductId(id)) {
+                put(slots, slot);
+            }
+            return slots;
+        });
+    }
+
+    private static void put(NavigableMap<SlotKey, Counter> slots, ProductSlot slot) {
+        slots.put(new SlotKey(slot.getSlotDate(), slot.getSlotTime()),
+                new Counter(slot.getCapacity(), new AtomicInteger(slot.getReserved())));
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record SlotKey(LocalDate date, LocalTime time) implements Comparable<SlotKey> {
+        @Override
+        public int compareTo(SlotKey other) {
+            int byDate = date.compareTo(other.date);
+            return byDate != 0 ? byDate : time.compareTo(other.time);
+        }
+    }
+
+    private record Counter(int capacity, AtomicInteger reserved) {
+    }
+}
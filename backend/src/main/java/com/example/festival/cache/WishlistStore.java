@@ -0,0 +1,283 @@
+package com.example.festival.cache;
+
+import com.example.festival.event.FestivalChangedEvent;
+import com.example.festival.repository.UserRepository;
+import com.example.festival.repository.WishlistRepository;
+import com.example.festival.service.UserStatsService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 찜 목록 저장소. 사용자별 찜한 축제 id 를 압축 비트맵으로 메모리에 들고, 조회와 토글은 여기서만 처리한다.
+ *
+ * 사용자 비트맵은 처음 접근할 때 wishlist 테이블에서 읽어 오고, 이후 변경은 (사용자, 축제) 별 최종 상태만
+ * 모아 두었다가 flush-interval-ms 마다 한 트랜잭션에 batch insert / delete 로 기록한다(write-behind).
+ * user_stats 의 찜 개수도 같은 트랜잭션에서 실제로 바뀐 행 수만큼 반영한다.
+ * 기록에 실패한 변경은 남겨 두었다가 다음 주기에 다시 시도한다.
+ * 메모리에 두는 사용자는 max-users 명까지이고, 넘으면 기록 후 가장 오래 안 쓰인 사용자부터 내보낸다.
+ * 기록 대기 중인 변경이 있는 사용자는 테이블이 아직 최신이 아니므로 내보내지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WishlistStore {
+
+    // 그사이 축제가 지워졌거나 이미 있는 행이면 아무것도 넣지 않는다
+    private static final String INSERT_SQL = """
+        insert into wishlist (user_id, festival_id)
+        select ?, f.festival_id from festival f
+        where f.festival_id = ?
+          and not exists (select 1 from wishlist w where w.user_id = ? and w.festival_id = ?)
+    """;
+
+    private static final String DELETE_SQL = "delete from wishlist where user_id = ? and festival_id = ?";
+
+    private final WishlistRepository wishlistRepository;
+    private final UserRepository userRepository;
+    private final UserStatsService userStatsService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${festival.wishlist.flush-batch-size:500}")
+    private int flushBatchSize;
+
+    @Value("${festival.wishlist.max-users:10000}")
+    private int maxUsers;
+
+    private Map<Long, FestivalIdBitmap> bitmaps; // 접근 순서
+    private final Map<Change, Boolean> pending = new ConcurrentHashMap<>(); // (사용자, 축제) -> 기록할 최종 찜 여부
+
+    @PostConstruct
+    public void init() {
+        // 기록 대기 중인 사용자는 남겨야 하므로 removeEldestEntry 대신 flush 뒤에 직접 내보낸다
+        bitmaps = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true));
+    }
+
+    /**
+     * 찜한 축제 id 오름차순. 없는 사용자면 빈 배열.
+     */
+    public long[] festivalIds(Long userId) {
+        FestivalIdBitmap bitmap = bitmap(userId, false);
+        if (bitmap == null) {
+            return new long[0];
+        }
+        synchronized (bitmap) {
+            return bitmap.toArray();
+        }
+    }
+
+    /**
+     * @return 토글 후 찜 여부
+     */
+    public boolean toggle(Long userId, Long festivalId) {
+        while (true) {
+            FestivalIdBitmap bitmap = bitmap(userId, true);
+            synchronized (bitmap) {
+                if (bitmaps.get(userId) != bitmap) {
+                    continue; // 그사이 내보내졌으면 테이블에서 다시 읽는다
+                }
+                boolean added = !bitmap.remove(festivalId);
+                if (added) {
+                    bitmap.add(festivalId);
+                }
+                pending.put(new Change(userId, festivalId), added);
+                return added;
+            }
+        }
+    }
+
+    /**
+     * @return 찜해 두었던 축제를 뺐으면 true
+     */
+    public boolean remove(Long userId, Long festivalId) {
+        while (true) {
+            FestivalIdBitmap bitmap = bitmap(userId, false);
+            if (bitmap == null) {
+                return false;
+            }
+            synchronized (bitmap) {
+                if (bitmaps.get(userId) != bitmap) {
+                    continue;
+                }
+                if (!bitmap.remove(festivalId)) {
+                    return false;
+                }
+                pending.put(new Change(userId, festivalId), false);
+                return true;
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${festival.wishlist.flush-interval-ms:500}")
+    public synchronized void flush() {
+        if (writePending()) {
+            evictIdle();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * @return 대기 중이던 변경을 모두 기록했으면 true
+     */
+    private boolean writePending() {
+        if (pending.isEmpty()) {
+            return true;
+        }
+        List<Map.Entry<Change, Boolean>> snapshot = new ArrayList<>(pending.size());
+        pending.forEach((change, added) -> snapshot.add(Map.entry(change, added)));
+
+        for (int from = 0; from < snapshot.size(); from += flushBatchSize) {
+            List<Map.Entry<Change, Boolean>> chunk = snapshot.subList(from, Math.min(from + flushBatchSize, snapshot.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> write(chunk));
+            } catch (RuntimeException e) {
+                log.warn("찜 목록 기록 실패, 다음 주기에 다시 시도합니다: {}건", pending.size(), e);
+                return false;
+            }
+            // 기록하는 사이 다시 토글된 항목은 남겨 두고 다음 주기에 기록한다
+            chunk.forEach(entry -> pending.remove(entry.getKey(), entry.getValue()));
+        }
+        return true;
+    }
+
+    /**
+     * max-users 를 넘는 만큼 가장 오래 안 쓰인 사용자부터 내보낸다.
+     * 토글은 사용자 비트맵을 잠근 채 변경을 쌓으므로, 같은 잠금 안에서 대기 중인 변경이 없는지 보고 뺀다.
+     */
+    private void evictIdle() {
+        List<Map.Entry<Long, FestivalIdBitmap>> eldest;
+        synchronized (bitmaps) {
+            int excess = bitmaps.size() - maxUsers;
+            if (excess <= 0) {
+                return;
+            }
+            eldest = new ArrayList<>(excess);
+            for (Map.Entry<Long, FestivalIdBitmap> entry : bitmaps.entrySet()) {
+                if (eldest.size() == excess) {
+                    break;
+                }
+                eldest.add(Map.entry(entry.getKey(), entry.getValue()));
+            }
+        }
+        for (Map.Entry<Long, FestivalIdBitmap> entry : eldest) {
+            Long userId = entry.getKey();
+            synchronized (entry.getValue()) {
+                if (pending.keySet().stream().noneMatch(change -> change.userId().equals(userId))) {
+                    bitmaps.remove(userId, entry.getValue());
+                }
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFestivalChanged(FestivalChangedEvent event) {
+        if (event.getType() != FestivalChangedEvent.Type.DELETED) {
+            return;
+        }
+        // 테이블 행과 찜 개수는 축제 삭제 트랜잭션에서 이미 정리했다
+        Long festivalId = event.getFestivalId();
+        pending.keySet().removeIf(change -> change.festivalId().equals(festivalId));
+        List<FestivalIdBitmap> loaded;
+        synchronized (bitmaps) {
+            loaded = new ArrayList<>(bitmaps.values());
+        }
+        // 토글은 비트맵 잠금 안에서 bitmaps 를 보므로, bitmaps 잠금을 쥔 채 비트맵을 잠그지 않는다
+        loaded.forEach(bitmap -> {
+            synchronized (bitmap) {
+                bitmap.remove(festivalId);
+            }
+        });
+    }
+
+    private void write(List<Map.Entry<Change, Boolean>> chunk) {
+        List<Change> inserts = new ArrayList<>();
+        List<Change> deletes = new ArrayList<>();
+        chunk.forEach(entry -> (entry.getValue() ? inserts : deletes).add(entry.getKey()));
+
+        Map<Long, Integer> deltas = new HashMap<>();
+        Set<Long> unknown = new HashSet<>();
+        if (!inserts.isEmpty()) {
+            int[][] inserted = jdbcTemplate.batchUpdate(INSERT_SQL, inserts, inserts.size(), (ps, change) -> {
+                ps.setLong(1, change.userId());
+                ps.setLong(2, change.festivalId());
+                ps.setLong(3, change.userId());
+                ps.setLong(4, change.festivalId());
+            });
+            collectDeltas(inserts, inserted, 1, deltas, unknown);
+        }
+        if (!deletes.isEmpty()) {
+            int[][] deleted = jdbcTemplate.batchUpdate(DELETE_SQL, deletes, deletes.size(), (ps, change) -> {
+                ps.setLong(1, change.userId());
+                ps.setLong(2, change.festivalId());
+            });
+            collectDeltas(deletes, deleted, -1, deltas, unknown);
+        }
+        deltas.forEach((userId, delta) -> {
+            if (!unknown.contains(userId)) {
+                userStatsService.wishlistCountChanged(userId, delta);
+            }
+        });
+        userStatsService.recompute(unknown);
+    }
+
+    /**
+     * 드라이버가 batch 결과 행 수를 알려 주지 않으면(SUCCESS_NO_INFO) 해당 사용자는 테이블 기준으로 다시 센다.
+     */
+    private static void collectDeltas(List<Change> changes, int[][] counts, int sign,
+                                      Map<Long, Integer> deltas, Set<Long> unknown) {
+        int i = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                Long userId = changes.get(i++).userId();
+                if (count < 0) {
+                    unknown.add(userId);
+                } else if (count > 0) {
+                    deltas.merge(userId, sign * count, Integer::sum);
+                }
+            }
+        }
+    }
+
+    private FestivalIdBitmap bitmap(Long userId, boolean required) {
+        FestivalIdBitmap bitmap = bitmaps.get(userId);
+        if (bitmap != null) {
+            return bitmap;
+        }
+        if (!userRepository.existsById(userId)) {
+            if (required) {
+                throw new IllegalArgumentException("존재하지 않는 사용자입니다.");
+            }
+            return null;
+        }
+        // 아직 적재 전인 사용자는 기록 대기 중인 변경이 없으므로 테이블이 곧 최신 상태다
+        FestivalIdBitmap loaded = new FestivalIdBitmap();
+        wishlistRepository.findFestivalIdsByUser(userId).forEach(loaded::add);
+        FestivalIdBitmap raced = bitmaps.putIfAbsent(userId, loaded);
+        return raced != null ? raced : loaded;
+    }
+
+    private record Change(Long userId, Long festivalId) {
+    }
+}
@@ -1,13 +1,23 @@
 package com.example.festival.controller;
 
+import com.example.festival.cache.ResourceVersions;
+import com.example.festival.dto.CursorPageDTO;
 import com.example.festival.dto.FestivalRequestDTO;
 import com.example.festival.dto.FestivalResponseDTO;
+import com.example.festival.dto.NearbyFestivalDTO;
 import com.example.festival.dto.ProductResponseDTO;
+import com.example.festival.dto.RatingSummaryDTO;
+import com.example.festival.dto.ReviewKeywordDTO;
 import com.example.festival.service.FestivalService;
 import com.example.festival.service.ProductService;
+import com.example.festival.support.UnpagedListGuard;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -17,27 +27,127 @@ public class FestivalController {
 
     private final FestivalService festivalService;
     private final ProductService productService;
+    private final UnpagedListGuard unpagedListGuard;
+    private final ResourceVersions resourceVersions;
 
+    /**
+     * @deprecated limit/cursor 를 쓰는 페이지 조회로 옮길 것
+     */
+    @Deprecated
     @GetMapping
-    public List<FestivalResponseDTO> getAll() {
-        return festivalService.getAllFestivals();
+    public List<FestivalResponseDTO> getAll(
+            @RequestParam(value = "sort", required = false) String sort,
+            HttpServletResponse response,
+            WebRequest request) {
+        unpagedListGuard.check(response);
+        ResourceVersions.Stamp stamp = resourceVersions.festivalCollection();
+        if (request.checkNotModified(stamp.etag(), stamp.lastModified())) {
+            return null;
+        }
+        return festivalService.getAllFestivals(sort);
+    }
+
+    @GetMapping(params = "limit")
+    public CursorPageDTO<FestivalResponseDTO> getPage(
+            @RequestParam(value = "category", required = false) String category,
+            @RequestParam(value = "sort", required = false) String sort,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam("limit") int limit,
+            WebRequest request) {
+        ResourceVersions.Stamp stamp = resourceVersions.festivalCollection();
+        if (request.checkNotModified(stamp.etag(), stamp.lastModified())) {
+            return null;
+        }
+        return festivalService.getFestivalPage(category, sort, cursor, limit);
+    }
+
+    @GetMapping(params = {"category", "!limit"})
+    public List<FestivalResponseDTO> getByCategory(
+            @RequestParam("category") String category,
+            @RequestParam(value = "sort", required = false) String sort,
+            WebRequest request) {
+        ResourceVersions.Stamp stamp = resourceVersions.festivalCollection();
+        if (request.checkNotModified(stamp.etag(), stamp.lastModified())) {
+            return null;
+        }
+        return festivalService.getFestivalsByCategory(category, sort);
+    }
+
+    @GetMapping(params = {"from", "to", "!category"})
+    public List<FestivalResponseDTO> getBetween(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            WebRequest request) {
+        ResourceVersions.Stamp stamp = resourceVersions.festivalCollection();
+        if (request.checkNotModified(stamp.etag(), stamp.lastModified())) {
+            return null;
+        }
+        return festivalService.getFestivalsBetween(from, to);
     }
 
     @GetMapping("/{id}")
-    public FestivalResponseDTO getOne(@PathVariable("id") Long id) {
+    public FestivalResponseDTO getOne(@PathVariable("id") Long id, WebRequest request) {
+        ResourceVersions.Stamp stamp = resourceVersions.festival(id);
+        if (request.checkNotModified(stamp.etag(), stamp.lastModified())) {
+            return null;
+        }
         return festivalService.getFestival(id);
     }
 
+    @GetMapping("/{id}/rating-summary")
+    public RatingSummaryDTO getRatingSummary(@PathVariable("id") Long id) {
+        return festivalService.getRatingSummary(id);
+    }
+
+    @GetMapping("/{id}/review-keywords")
+    public List<ReviewKeywordDTO> getReviewKeywords(
+            @PathVariable("id") Long id,
+            @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        return festivalService.getReviewKeywords(id, limit);
+    }
+
     @GetMapping("/recommended")
-    public List<FestivalResponseDTO> getRecommended(@RequestParam("userId") Long userId) {
-        return festivalService.getRecommendedFestivals(userId);
+    public List<FestivalResponseDTO> getRecommended(
+            @RequestParam("userId") Long userId,
+            @RequestParam(value = "offset", defaultValue = "0") int offset,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        return festivalService.getRecommendedFestivals(userId, offset, limit);
     }
 
     @GetMapping("/upcoming")
-    public List<FestivalResponseDTO> getUpcoming() {
+    public List<FestivalResponseDTO> getUpcoming(WebRequest request) {
+        ResourceVersions.Stamp stamp = resourceVersions.festivalDayView();
+        if (request.checkNotModified(stamp.etag(), stamp.lastModified())) {
+            return null;
+        }
         return festivalService.getUpcomingFestivals();
     }
 
+    @GetMapping("/ongoing")
+    public List<FestivalResponseDTO> getOngoing(WebRequest request) {
+        ResourceVersions.Stamp stamp = resourceVersions.festivalDayView();
+        if (request.checkNotModified(stamp.etag(), stamp.lastModified())) {
+            return null;
+        }
+        return festivalService.getOngoingFestivals();
+    }
+
+    @GetMapping("/nearby")
+    public List<NearbyFestivalDTO> getNearby(
+            @RequestParam("lat") double lat,
+            @RequestParam("lng") double lng,
+            @RequestParam(value = "radiusKm", required = false) Double radiusKm,
+            @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        return festivalService.getNearbyFestivals(lat, lng, radiusKm, limit);
+    }
+
+    @GetMapping("/search")
+    public List<FestivalResponseDTO> search(
+            @RequestParam("q") String q,
+            @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        return festivalService.searchFestivals(q, limit);
+    }
+
     @PostMapping
     public FestivalResponseDTO createFestival(@RequestBody FestivalRequestDTO request) {
         return festivalService.createFestival(request);
@@ -54,7 +164,11 @@ public class FestivalController {
     }
 
     @GetMapping("/{id}/products")
-    public List<ProductResponseDTO> getProductsByFestival(@PathVariable("id") Long id) {
+    public List<ProductResponseDTO> getProductsByFestival(@PathVariable("id") Long id, WebRequest request) {
+        ResourceVersions.Stamp stamp = resourceVersions.festivalProducts(id);
+        if (request.checkNotModified(stamp.etag(), stamp.lastModified())) {
+            return null;
+        }
         return productService.getProductsByFestival(id);
     }
 }
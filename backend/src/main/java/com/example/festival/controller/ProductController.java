@@ -1,11 +1,20 @@
 package com.example.festival.controller;
 
+import com.example.festival.cache.ResourceVersions;
+import com.example.festival.dto.CursorPageDTO;
 import com.example.festival.dto.ProductResponseDTO;
+import com.example.festival.dto.ProductSlotRequestDTO;
+import com.example.festival.dto.SlotAvailabilityDTO;
 import com.example.festival.entity.Product;
 import com.example.festival.service.ProductService;
+import com.example.festival.support.UnpagedListGuard;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -14,22 +23,62 @@ import java.util.List;
 public class ProductController {
 
     private final ProductService productService;
+    private final UnpagedListGuard unpagedListGuard;
+    private final ResourceVersions resourceVersions;
 
     @PostMapping
     public Product create(@RequestBody Product product) {
         return productService.createProduct(product);
     }
 
+    /**
+     * @deprecated limit/cursor 를 쓰는 페이지 조회로 옮길 것
+     */
+    @Deprecated
     @GetMapping
-    public List<ProductResponseDTO> getAll() {
+    public List<ProductResponseDTO> getAll(HttpServletResponse response, WebRequest request) {
+        unpagedListGuard.check(response);
+        ResourceVersions.Stamp stamp = resourceVersions.products();
+        if (request.checkNotModified(stamp.etag(), stamp.lastModified())) {
+            return null;
+        }
         return productService.getAllProducts();
     }
 
+    @GetMapping(params = "limit")
+    public CursorPageDTO<ProductResponseDTO> getPage(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam("limit") int limit,
+            WebRequest request) {
+        ResourceVersions.Stamp stamp = resourceVersions.products();
+        if (request.checkNotModified(stamp.etag(), stamp.lastModified())) {
+            return null;
+        }
+        return productService.getProductPage(cursor, limit);
+    }
+
     @GetMapping("/{id}")
-    public ProductResponseDTO getOne(@PathVariable Long id) {
+    public ProductResponseDTO getOne(@PathVariable Long id, WebRequest request) {
+        ResourceVersions.Stamp stamp = resourceVersions.product(id);
+        if (request.checkNotModified(stamp.etag(), stamp.lastModified())) {
+            return null;
+        }
         return productService.getProduct(id);
     }
 
+    @GetMapping("/{id}/availability")
+    public List<SlotAvailabilityDTO> getAvailability(
+            @PathVariable Long id,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return productService.getAvailability(id, from, to);
+    }
+
+    @PutMapping("/{id}/slots")
+    public List<SlotAvailabilityDTO> saveSlots(@PathVariable Long id, @RequestBody List<ProductSlotRequestDTO> slots) {
+        return productService.saveSlots(id, slots);
+    }
+
     @PutMapping("/{id}")
     public Product update(@PathVariable Long id, @RequestBody Product product) {
         return productService.updateProduct(id, product);
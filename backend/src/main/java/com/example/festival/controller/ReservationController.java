@@ -1,10 +1,25 @@
 package com.example.festival.controller;
 
+import com.example.festival.dto.AdmissionTicketDTO;
+import com.example.festival.dto.CheckInBatchResultDTO;
+import com.example.festival.dto.CursorPageDTO;
+import com.example.festival.dto.PendingReservationDTO;
+import com.example.festival.dto.ReservationBatchResultDTO;
 import com.example.festival.dto.ReservationRequestDTO;
 import com.example.festival.dto.ReservationResponseDTO;
+import com.example.festival.service.ReservationIntakeQueue;
 import com.example.festival.service.ReservationService;
+import com.example.festival.support.AdmissionQueue;
+import com.example.festival.support.IdempotencyStore;
+import com.example.festival.support.UnpagedListGuard;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.HashMap;
 import java.util.List;
@@ -16,18 +31,77 @@ import java.util.Map;
 public class ReservationController {
 
     private final ReservationService reservationService;
+    private final UnpagedListGuard unpagedListGuard;
+    private final IdempotencyStore idempotencyStore;
+    private final AdmissionQueue admissionQueue;
+    private final ReservationIntakeQueue reservationIntakeQueue;
 
     /**
-     * 예약 생성
+     * 예약 생성. 축제 입장 대기열이 밀려 있으면 202 와 대기표를 돌려주고,
+     * 클라이언트는 대기표가 READY 가 되면 ticket 을 붙여 다시 요청한다.
      */
     @PostMapping
-    public ReservationResponseDTO create(@RequestBody ReservationRequestDTO dto) {
-        return reservationService.createReservation(dto);
+    public ResponseEntity<?> create(
+            @RequestBody ReservationRequestDTO dto,
+            @RequestParam(value = "ticket", required = false) String ticket,
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
+        AdmissionTicketDTO waiting = admissionQueue.admit(dto.getFestivalId(), ticket);
+        if (waiting != null) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(waiting.getRetryAfterSeconds()))
+                    .body(waiting);
+        }
+        return ResponseEntity.ok(idempotencyStore.execute("POST /reservations", idempotencyKey, dto,
+                () -> reservationService.createReservation(dto)));
+    }
+
+    @GetMapping("/queue/{ticket}")
+    public AdmissionTicketDTO getQueueStatus(@PathVariable String ticket) {
+        return admissionQueue.status(ticket);
+    }
+
+    /**
+     * 비동기 예약 접수. 큐에 넣고 바로 202 와 ticket 을 돌려주며, 결과는 /pending/{ticket} 으로 조회한다.
+     * 입장 대기열은 동기 예약과 같이 거친다. 밀려 있으면 202 와 대기표(status WAITING/READY)를 돌려주고,
+     * READY 가 되면 대기표의 ticket 을 붙여 다시 요청한다.
+     */
+    @PostMapping("/async")
+    public ResponseEntity<?> createAsync(
+            @RequestBody ReservationRequestDTO dto,
+            @RequestParam(value = "ticket", required = false) String ticket,
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
+        AdmissionTicketDTO waiting = admissionQueue.admit(dto.getFestivalId(), ticket);
+        if (waiting != null) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(waiting.getRetryAfterSeconds()))
+                    .body(waiting);
+        }
+        PendingReservationDTO pending = idempotencyStore.execute("POST /reservations/async", idempotencyKey, dto,
+                () -> reservationIntakeQueue.submit(dto));
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(pending);
+    }
+
+    @GetMapping("/pending/{ticket}")
+    public PendingReservationDTO getPending(@PathVariable String ticket) {
+        return reservationIntakeQueue.status(ticket);
+    }
+
+    /**
+     * 단체/관리자 일괄 예약. 항목별 결과를 요청 순서대로 돌려준다.
+     */
+    @PostMapping("/batch")
+    public List<ReservationBatchResultDTO> createBatch(
+            @RequestBody List<ReservationRequestDTO> dtos,
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
+        return idempotencyStore.execute("POST /reservations/batch", idempotencyKey, dtos,
+                () -> reservationService.createReservations(dtos));
     }
 
     @GetMapping("/user/{userId}")
-    public List<ReservationResponseDTO> getByUser(@PathVariable Long userId) {
-        return reservationService.getReservationsByUser(userId);
+    public List<ReservationResponseDTO> getByUser(
+            @PathVariable Long userId,
+            @RequestParam(value = "history", defaultValue = "false") boolean history) {
+        return reservationService.getReservationsByUser(userId, history);
     }
 
     @GetMapping("/count/{userId}")
@@ -36,29 +110,70 @@ public class ReservationController {
     }
 
     @PutMapping("/{id}/attended")
-    public ReservationResponseDTO markAttended(@PathVariable("id") Long id) {
-        return reservationService.markAttended(id);
+    public ReservationResponseDTO markAttended(
+            @PathVariable("id") Long id,
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
+        return idempotencyStore.execute("PUT /reservations/attended", idempotencyKey, id,
+                () -> reservationService.markAttended(id));
+    }
+
+    /**
+     * 현장 스캐너가 모아 둔 체크인 토큰 일괄 반영
+     */
+    @PostMapping("/attended/batch")
+    public CheckInBatchResultDTO markAttendedBatch(@RequestBody List<String> tokens) {
+        return reservationService.markAttendedByTokens(tokens);
     }
 
     @PutMapping("/{id}/cancel")
-    public Map<String, Object> cancel(@PathVariable("id") Long id, @RequestParam("userId") Long userId) {
-        ReservationResponseDTO dto = reservationService.cancelReservation(userId, id);
-        Map<String, Object> response = new HashMap<>();
-        response.put("success", true);
-        response.put("message", "예약이 취소되었습니다.");
-        response.put("reservation", dto);
-        return response;
+    public Map<String, Object> cancel(
+            @PathVariable("id") Long id,
+            @RequestParam("userId") Long userId,
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
+        return idempotencyStore.execute("PUT /reservations/cancel", idempotencyKey, List.of(id, userId), () -> {
+            ReservationResponseDTO dto = reservationService.cancelReservation(userId, id);
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("message", "예약이 취소되었습니다.");
+            response.put("reservation", dto);
+            return response;
+        });
     }
 
     // 관리자: 모든 예약 조회
+    /**
+     * @deprecated limit/cursor 를 쓰는 페이지 조회로 옮길 것
+     */
+    @Deprecated
     @GetMapping("/all")
-    public List<ReservationResponseDTO> getAll() {
-        return reservationService.getAllReservations();
+    public List<ReservationResponseDTO> getAll(
+            @RequestParam(value = "history", defaultValue = "false") boolean history,
+            HttpServletResponse response) {
+        unpagedListGuard.check(response);
+        return reservationService.getAllReservations(history);
+    }
+
+    // 관리자: 모든 예약을 한 번에 메모리에 올리지 않고 스트리밍
+    @GetMapping("/all/stream")
+    public ResponseEntity<StreamingResponseBody> streamAll() {
+        StreamingResponseBody body = reservationService::exportAllReservations;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    // 관리자: 예약 커서 페이지 조회
+    @GetMapping(value = "/all", params = "limit")
+    public CursorPageDTO<ReservationResponseDTO> getPage(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam("limit") int limit) {
+        return reservationService.getReservationPage(cursor, limit);
     }
 
     // 관리자: 예약 삭제
     @DeleteMapping("/{id}")
-    public void delete(@PathVariable Long id) {
-        reservationService.deleteReservation(id);
+    public void delete(@PathVariable Long id, @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
+        idempotencyStore.execute("DELETE /reservations", idempotencyKey, id,
+                () -> reservationService.deleteReservation(id));
     }
 }
@@ -1,10 +1,17 @@
 package com.example.festival.controller;
 
+import com.example.festival.dto.CursorPageDTO;
 import com.example.festival.dto.ReviewRequestDTO;
 import com.example.festival.dto.ReviewResponseDTO;
 import com.example.festival.service.ReviewService;
+import com.example.festival.support.IdempotencyStore;
+import com.example.festival.support.UnpagedListGuard;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -14,46 +21,91 @@ import java.util.List;
 public class ReviewController {
 
     private final ReviewService reviewService;
+    private final UnpagedListGuard unpagedListGuard;
+    private final IdempotencyStore idempotencyStore;
 
     @PostMapping
-    public ReviewResponseDTO create(@RequestBody ReviewRequestDTO dto) {
-        return reviewService.createReview(dto);
+    public ReviewResponseDTO create(
+            @RequestBody ReviewRequestDTO dto,
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
+        return idempotencyStore.execute("POST /reviews", idempotencyKey, dto,
+                () -> reviewService.createReview(dto));
     }
 
     @PutMapping("/{id}/{userId}")
     public ReviewResponseDTO update(
             @PathVariable Long id,
             @PathVariable Long userId,
-            @RequestBody ReviewRequestDTO dto) {
+            @RequestBody ReviewRequestDTO dto,
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
 
-        return reviewService.updateReview(id, dto, userId);
+        return idempotencyStore.execute("PUT /reviews", idempotencyKey, List.of(id, userId, dto),
+                () -> reviewService.updateReview(id, dto, userId));
     }
 
     @DeleteMapping("/{id}/{userId}")
-    public void delete(@PathVariable Long id, @PathVariable Long userId) {
-        reviewService.deleteReview(id, userId);
+    public void delete(
+            @PathVariable Long id,
+            @PathVariable Long userId,
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
+        idempotencyStore.execute("DELETE /reviews", idempotencyKey, List.of(id, userId),
+                () -> reviewService.deleteReview(id, userId));
     }
 
     @DeleteMapping("/{id}")
-    public void deleteByAdmin(@PathVariable Long id) {
-        reviewService.deleteReview(id);
+    public void deleteByAdmin(@PathVariable Long id, @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
+        idempotencyStore.execute("DELETE /reviews/admin", idempotencyKey, id,
+                () -> reviewService.deleteReview(id));
     }
 
+    /**
+     * @deprecated limit/cursor 를 쓰는 페이지 조회로 옮길 것
+     */
+    @Deprecated
     @GetMapping("/festival/{festivalId}")
-    public List<ReviewResponseDTO> getByFestival(@PathVariable Long festivalId) {
+    public List<ReviewResponseDTO> getByFestival(@PathVariable Long festivalId, HttpServletResponse response) {
+        unpagedListGuard.check(response);
         return reviewService.getReviewsByFestival(festivalId);
     }
 
+    @GetMapping(value = "/festival/{festivalId}", params = "limit")
+    public CursorPageDTO<ReviewResponseDTO> getPageByFestival(
+            @PathVariable Long festivalId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam("limit") int limit) {
+        return reviewService.getReviewPageByFestival(festivalId, cursor, limit);
+    }
+
     @GetMapping("/user/{userId}")
     public List<ReviewResponseDTO> getByUser(@PathVariable Long userId) {
         return reviewService.getReviewsByUser(userId);
     }
 
+    /**
+     * @deprecated limit/cursor 를 쓰는 페이지 조회로 옮길 것
+     */
+    @Deprecated
     @GetMapping("/all")
-    public List<ReviewResponseDTO> getAll() {
+    public List<ReviewResponseDTO> getAll(HttpServletResponse response) {
+        unpagedListGuard.check(response);
         return reviewService.getAllReviews();
     }
 
+    @GetMapping("/all/stream")
+    public ResponseEntity<StreamingResponseBody> streamAll() {
+        StreamingResponseBody body = reviewService::exportAllReviews;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    @GetMapping(value = "/all", params = "limit")
+    public CursorPageDTO<ReviewResponseDTO> getPage(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam("limit") int limit) {
+        return reviewService.getReviewPage(cursor, limit);
+    }
+
     @GetMapping("/eligible")
     public boolean isEligible(
             @RequestParam("userId") Long userId,
@@ -1,9 +1,14 @@
 package com.example.festival.controller;
 
+import com.example.festival.dto.CursorPageDTO;
 import com.example.festival.dto.LoginRequestDTO;
 import com.example.festival.dto.UserRequestDTO;
 import com.example.festival.dto.UserResponseDTO;
+import com.example.festival.dto.UserStatsDTO;
 import com.example.festival.service.UserService;
+import com.example.festival.service.UserStatsService;
+import com.example.festival.support.UnpagedListGuard;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
@@ -16,6 +21,8 @@ import java.util.List;
 public class UserController {
 
     private final UserService userService;
+    private final UnpagedListGuard unpagedListGuard;
+    private final UserStatsService userStatsService;
 
     @PostMapping("/signup")
     public UserResponseDTO signup(@RequestBody UserRequestDTO dto) {
@@ -27,16 +34,36 @@ public class UserController {
         return userService.login(dto);
     }
 
+    /**
+     * @deprecated limit/cursor 를 쓰는 페이지 조회로 옮길 것
+     */
+    @Deprecated
     @GetMapping
-    public List<UserResponseDTO> findAllUsers() {
+    public List<UserResponseDTO> findAllUsers(HttpServletResponse response) {
+        unpagedListGuard.check(response);
         return userService.findAllUsers();
     }
 
+    @GetMapping(params = "limit")
+    public CursorPageDTO<UserResponseDTO> findUserPage(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam("limit") int limit) {
+        return userService.findUserPage(cursor, limit);
+    }
+
     @GetMapping("/{id}")
     public UserResponseDTO getUser(@PathVariable Long id) {
         return userService.getUser(id);
     }
 
+    /**
+     * 마이페이지 집계: 진행 중 예약 / 참석 / 작성 리뷰 / 찜 개수
+     */
+    @GetMapping("/{id}/stats")
+    public UserStatsDTO getStats(@PathVariable Long id) {
+        return userStatsService.get(id);
+    }
+
     @PutMapping("/{id}")
     public UserResponseDTO updateUser(@PathVariable Long id, @RequestBody UserRequestDTO dto) {
         return userService.updateUser(id, dto);
@@ -2,6 +2,7 @@ package com.example.festival.controller;
 
 import com.example.festival.dto.WishlistResponseDTO;
 import com.example.festival.service.WishlistService;
+import com.example.festival.support.IdempotencyStore;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
@@ -13,15 +14,25 @@ import java.util.List;
 public class WishlistController {
 
     private final WishlistService wishlistService;
+    private final IdempotencyStore idempotencyStore;
 
     @PostMapping("/{userId}/{festivalId}")
-    public WishlistResponseDTO toggle(@PathVariable Long userId, @PathVariable Long festivalId) {
-        return wishlistService.toggleWishlist(userId, festivalId);
+    public WishlistResponseDTO toggle(
+            @PathVariable Long userId,
+            @PathVariable Long festivalId,
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
+        // 토글이라 재시도가 두 번 실행되면 원래 상태로 돌아가 버린다
+        return idempotencyStore.execute("POST /wishlist", idempotencyKey, List.of(userId, festivalId),
+                () -> wishlistService.toggleWishlist(userId, festivalId));
     }
 
     @DeleteMapping("/{userId}/{festivalId}")
-    public void delete(@PathVariable Long userId, @PathVariable Long festivalId) {
-        wishlistService.removeWishlist(userId, festivalId);
+    public void delete(
+            @PathVariable Long userId,
+            @PathVariable Long festivalId,
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
+        idempotencyStore.execute("DELETE /wishlist", idempotencyKey, List.of(userId, festivalId),
+                () -> wishlistService.removeWishlist(userId, festivalId));
     }
 
     @GetMapping("/{userId}")
@@ -0,0 +1,14 @@
+package com.example.festival.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class AdmissionTicketDTO {
+    private String ticket;
+    private Long festivalId;
+    private String status;          // WAITING, READY, EXPIRED
+    private long position;          // 내 앞에 남은 대기 인원 (READY 면 0)
+    private long retryAfterSeconds; // 다시 조회/요청할 때까지 기다릴 시간
+}
@@ -0,0 +1,15 @@
+package com.example.festival.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class CheckInBatchResultDTO {
+    private int received;                // 받은 토큰 수
+    private int updated;                 // 이번에 참석 처리된 예약 수
+    private List<String> invalidTokens;  // 서명/형식이 맞지 않는 토큰
+    private List<Long> skippedReservationIds; // 이미 참석/취소됐거나 없는 예약
+}
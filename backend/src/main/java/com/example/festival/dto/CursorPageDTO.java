@@ -0,0 +1,32 @@
+package com.example.festival.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서(keyset) 기반 페이지 응답. nextCursor 를 다음 요청의 cursor 로 넘기면 이어서 조회한다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDTO<T> {
+    private List<T> items;
+    private String nextCursor; // 마지막 페이지면 null
+    private boolean hasNext;
+
+    /**
+     * limit + 1 개를 조회한 결과로 페이지를 만든다. 초과분이 있으면 다음 페이지가 있는 것이다.
+     */
+    public static <T> CursorPageDTO<T> of(List<T> fetched, int limit, Function<T, String> cursorOf) {
+        boolean hasNext = fetched.size() > limit;
+        List<T> items = hasNext ? fetched.subList(0, limit) : fetched;
+        String nextCursor = hasNext ? cursorOf.apply(items.get(items.size() - 1)) : null;
+        return new CursorPageDTO<>(items, nextCursor, hasNext);
+    }
+}
@@ -9,7 +9,7 @@ import java.time.LocalDate;
 import java.util.List;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class FestivalResponseDTO {
@@ -31,4 +31,7 @@ public class FestivalResponseDTO {
     private String region;
     private LocalDate startDate;
     private LocalDate endDate;
+
+    private long wishlistCount;      // 찜한 사람 수
+    private long reservedHeadCount;  // 취소되지 않은 예약 인원
 }
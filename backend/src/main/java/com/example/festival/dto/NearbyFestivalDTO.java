@@ -0,0 +1,15 @@
+package com.example.festival.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NearbyFestivalDTO {
+    private FestivalResponseDTO festival;
+    private double distanceKm;
+}
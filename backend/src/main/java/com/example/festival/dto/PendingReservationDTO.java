@@ -0,0 +1,13 @@
+package com.example.festival.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class PendingReservationDTO {
+    private String ticket;
+    private String status;                      // PENDING, CONFIRMED, FAILED, UNKNOWN
+    private ReservationResponseDTO reservation; // CONFIRMED 인 경우만
+    private String message;                     // FAILED 사유
+}
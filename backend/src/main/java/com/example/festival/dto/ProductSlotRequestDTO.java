@@ -0,0 +1,10 @@
+package com.example.festival.dto;
+
+import lombok.Data;
+
+@Data
+public class ProductSlotRequestDTO {
+    private String date;   // "2025-10-01"
+    private String time;   // "18:00"
+    private int capacity;
+}
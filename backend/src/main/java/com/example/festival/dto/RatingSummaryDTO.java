@@ -0,0 +1,23 @@
+package com.example.festival.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class RatingSummaryDTO {
+    private Long festivalId;
+    private long reviewCount;
+    private Double averageRating;
+    private List<Bucket> buckets; // 0.5점부터 5.0점까지 오름차순
+
+    @Data
+    @AllArgsConstructor
+    public static class Bucket {
+        private double rating;
+        private long count;
+    }
+}
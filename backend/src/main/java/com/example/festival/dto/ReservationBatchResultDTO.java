@@ -0,0 +1,13 @@
+package com.example.festival.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class ReservationBatchResultDTO {
+    private int index;                          // 요청 목록에서의 위치
+    private boolean success;
+    private ReservationResponseDTO reservation; // 성공한 경우만
+    private String message;                     // 실패 사유
+}
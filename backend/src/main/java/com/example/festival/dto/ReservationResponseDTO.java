@@ -26,4 +26,6 @@ public class ReservationResponseDTO {
     private String status;
 
     private ProductSummaryDTO product;
+
+    private String checkInToken; // 취소된 예약은 null
 }
@@ -0,0 +1,11 @@
+package com.example.festival.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ReviewKeywordDTO {
+    private String keyword;
+    private double score; // 감쇠된 tf × idf, 축제 안에서 순위를 매기는 용도
+}
@@ -1,5 +1,6 @@
 package com.example.festival.dto;
 
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.NoArgsConstructor;
@@ -7,6 +8,7 @@ import lombok.NoArgsConstructor;
 @Getter
 @Setter
 @NoArgsConstructor
+@EqualsAndHashCode // Idempotency-Key 재시도 요청 비교용
 public class ReviewRequestDTO {
     private Long userId;
     private Long festivalId;  // 리뷰 대상 축제
@@ -0,0 +1,14 @@
+package com.example.festival.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class SlotAvailabilityDTO {
+    private String date;
+    private String time;
+    private int capacity;
+    private int reserved;
+    private int remaining;
+}
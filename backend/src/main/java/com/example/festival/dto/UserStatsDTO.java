@@ -0,0 +1,14 @@
+package com.example.festival.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class UserStatsDTO {
+    private Long userId;
+    private long activeReservations;
+    private long attendedReservations;
+    private long reviewCount;
+    private long wishlistCount;
+}
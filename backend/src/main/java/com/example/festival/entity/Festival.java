@@ -5,7 +5,12 @@ import lombok.*;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "festival")
+@Table(
+        name = "festival",
+        indexes = {
+                @Index(name = "idx_festival_average_rating", columnList = "average_rating")
+        }
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -28,9 +33,14 @@ public class Festival {
 
     // 삭제: private String category;
 
+    // 레거시 컬럼: CategoryMigrationJob 이 category / festival_category 로 옮긴 뒤에는 읽지 않는다.
     @Column(nullable = true)
     private String categories; // 예: "공연,전시,예술"
 
+    // CategoryDictionary 의 카테고리 id 비트마스크 (id 1 -> bit 0)
+    @Column(nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private long categoryMask;
+
     @Column(nullable = true)
     private Double lat; // 위도
 
@@ -48,4 +58,15 @@ public class Festival {
 
     @Column(nullable = false)
     private LocalDate endDate;
+
+    // 리뷰 평점 집계 (ReviewServiceImpl 이 리뷰 쓰기와 같은 트랜잭션에서 갱신)
+    // 엔티티 save 로 덮어쓰지 않도록 updatable = false, 갱신은 FestivalRepository 의 update 쿼리로만 한다.
+    @Column(nullable = false, updatable = false, columnDefinition = "DOUBLE DEFAULT 0")
+    private double ratingSum;
+
+    @Column(nullable = false, updatable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private long reviewCount; // 평점이 있는 리뷰 수
+
+    @Column(nullable = false, updatable = false, columnDefinition = "DOUBLE DEFAULT 0")
+    private double averageRating;
 }
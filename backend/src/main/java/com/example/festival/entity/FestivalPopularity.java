@@ -0,0 +1,28 @@
+package com.example.festival.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 축제별 인기 집계. PopularityCounters 가 메모리에서 모은 증감분을 주기적으로 반영하고,
+ * 매일 새벽 wishlist / reservation / reservation_archive 기준으로 다시 맞춘다.
+ */
+@Entity
+@Table(name = "festival_popularity")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FestivalPopularity {
+
+    @Id
+    @Column(name = "festival_id")
+    private Long festivalId;
+
+    @Column(name = "wishlist_count", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private long wishlistCount;
+
+    @Column(name = "reserved_head_count", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private long reservedHeadCount; // 취소되지 않은 예약 인원, 보관된 예약 포함
+}
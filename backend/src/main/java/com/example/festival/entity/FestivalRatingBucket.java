@@ -0,0 +1,36 @@
+package com.example.festival.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 축제별 별점 분포. half_stars 는 0.5점 단위 구간(1 = 0.5점 … 10 = 5.0점).
+ * 리뷰 작성/수정/삭제 트랜잭션에서 증감되고 RatingAggregateRepairJob 이 review 기준으로 다시 맞춘다.
+ */
+@Entity
+@Table(
+        name = "festival_rating_bucket",
+        uniqueConstraints = {
+                @UniqueConstraint(columnNames = {"festival_id", "half_stars"})
+        }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FestivalRatingBucket {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long festivalRatingBucketId;
+
+    @Column(name = "festival_id", nullable = false)
+    private Long festivalId;
+
+    @Column(name = "half_stars", nullable = false)
+    private int halfStars;
+
+    @Column(name = "review_count", nullable = false)
+    private long reviewCount;
+}
@@ -0,0 +1,45 @@
+package com.example.festival.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 상품의 날짜 x 시간대별 수용 인원. 슬롯이 정의되지 않은 상품/시간대는 인원 제한이 없다.
+ */
+@Entity
+@Table(
+        name = "product_slot",
+        uniqueConstraints = {
+                @UniqueConstraint(columnNames = {"product_id", "slot_date", "slot_time"})
+        }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductSlot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long productSlotId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "product_id", nullable = false)
+    private Product product;
+
+    @Column(name = "slot_date", nullable = false)
+    private LocalDate slotDate;
+
+    @Column(name = "slot_time", nullable = false)
+    private LocalTime slotTime;
+
+    @Column(nullable = false)
+    private int capacity;
+
+    @Column(nullable = false, columnDefinition = "INT DEFAULT 0")
+    private int reserved; // 취소되지 않은 예약 인원 합계
+}
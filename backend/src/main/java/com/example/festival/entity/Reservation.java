@@ -16,8 +16,10 @@ import java.time.LocalTime;
 @Builder
 public class Reservation {
 
+    // IDENTITY 는 insert 마다 키를 받아와야 해서 JDBC 배치가 꺼진다. 시퀀스에서 50개씩 미리 받아 쓴다.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reservation_seq")
+    @SequenceGenerator(name = "reservation_seq", sequenceName = "reservation_seq", allocationSize = 50)
     private Long reservationId;
 
     @Column(name = "discount_rate")
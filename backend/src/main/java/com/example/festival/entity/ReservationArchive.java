@@ -0,0 +1,65 @@
+package com.example.festival.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * 지난 날짜의 종료된 예약(ATTENDED / CANCELLED). reservation 테이블에서 옮겨 오며 id 를 그대로 유지한다.
+ */
+@Entity
+@Table(
+        name = "reservation_archive",
+        indexes = {
+                @Index(name = "idx_reservation_archive_user", columnList = "user_id, reservation_id"),
+                @Index(name = "idx_reservation_archive_festival", columnList = "festival_id")
+        }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReservationArchive {
+
+    @Id
+    @Column(name = "reservation_id")
+    private Long reservationId;
+
+    @Column(name = "discount_rate")
+    private Double discountRate;
+
+    @Column(name = "reservation_date")
+    private LocalDateTime reservationDate;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "festival_id", nullable = false)
+    private Festival festival;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "product_id", nullable = false)
+    private Product product;
+
+    @Column(nullable = false)
+    private LocalDate date;
+
+    @Column(nullable = false)
+    private LocalTime time;
+
+    @Column(nullable = false)
+    private int headCount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Reservation.Status status;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
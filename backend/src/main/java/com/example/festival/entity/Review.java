@@ -11,6 +11,10 @@ import java.time.LocalDateTime;
         name = "review",
         uniqueConstraints = {
                 @UniqueConstraint(columnNames = {"user_id", "festival_id"})
+        },
+        indexes = {
+                // /reviews/festival/{id} 커서 페이지 조회용
+                @Index(name = "idx_review_festival_review", columnList = "festival_id, review_id")
         }
 )
 @Getter @Setter
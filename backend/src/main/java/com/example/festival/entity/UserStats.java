@@ -0,0 +1,34 @@
+package com.example.festival.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 마이페이지용 사용자 활동 집계. 예약/리뷰/찜 서비스가 쓰기 트랜잭션 안에서 증감분을 반영하고,
+ * UserStatsRepairJob 이 원본 테이블 기준으로 주기적으로 다시 맞춘다.
+ */
+@Entity
+@Table(name = "user_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserStats {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "active_reservations", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private long activeReservations;   // ACTIVE / RESERVED
+
+    @Column(name = "attended_reservations", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private long attendedReservations; // 보관된 예약 포함
+
+    @Column(name = "review_count", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private long reviewCount;
+
+    @Column(name = "wishlist_count", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private long wishlistCount;
+}
@@ -0,0 +1,24 @@
+package com.example.festival.event;
+
+import com.example.festival.entity.Festival;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 축제 생성/수정/삭제 시 발행되는 이벤트.
+ * 삭제의 경우 festival 은 null 이다.
+ */
+@Getter
+@AllArgsConstructor
+public class FestivalChangedEvent {
+
+    private final Long festivalId;
+    private final Type type;
+    private final Festival festival;
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.festival.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Set;
+
+/**
+ * 축제 인기 집계가 festival_popularity 에 반영된 뒤 발행되는 이벤트. festivalIds 는 찜 수/예약 인원이 바뀐 축제들.
+ */
+@Getter
+@AllArgsConstructor
+public class PopularityFlushedEvent {
+
+    private final Set<Long> festivalIds;
+}
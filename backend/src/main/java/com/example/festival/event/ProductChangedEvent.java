@@ -0,0 +1,15 @@
+package com.example.festival.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상품 생성/수정/삭제 및 재고 변경 시 발행되는 이벤트.
+ */
+@Getter
+@AllArgsConstructor
+public class ProductChangedEvent {
+
+    private final Long productId;
+    private final Long festivalId;
+}
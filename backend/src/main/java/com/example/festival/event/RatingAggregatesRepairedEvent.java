@@ -0,0 +1,15 @@
+package com.example.festival.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 축제 평점 집계를 review 테이블 기준으로 일괄 재계산한 뒤 발행되는 이벤트.
+ * 어느 축제 값이 바뀌었는지는 알 수 없으므로 축제 단건 응답 전체를 바뀐 것으로 본다.
+ */
+@Getter
+@AllArgsConstructor
+public class RatingAggregatesRepairedEvent {
+
+    private final int updatedFestivals;
+}
@@ -0,0 +1,16 @@
+package com.example.festival.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 예약 생성/상태 변경/삭제 시 발행되는 이벤트.
+ */
+@Getter
+@AllArgsConstructor
+public class ReservationChangedEvent {
+
+    private final Long reservationId;
+    private final Long userId;
+    private final Long festivalId;
+}
@@ -0,0 +1,15 @@
+package com.example.festival.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 리뷰 작성/수정/삭제 시 발행되는 이벤트.
+ */
+@Getter
+@AllArgsConstructor
+public class ReviewChangedEvent {
+
+    private final Long festivalId;
+    private final Long userId;
+}
@@ -0,0 +1,14 @@
+package com.example.festival.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용자 정보(관심사 등) 수정 시 발행되는 이벤트.
+ */
+@Getter
+@AllArgsConstructor
+public class UserProfileChangedEvent {
+
+    private final Long userId;
+}
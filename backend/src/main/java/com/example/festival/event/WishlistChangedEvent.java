@@ -0,0 +1,16 @@
+package com.example.festival.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 찜 추가/해제 시 발행되는 이벤트.
+ */
+@Getter
+@AllArgsConstructor
+public class WishlistChangedEvent {
+
+    private final Long userId;
+    private final Long festivalId;
+    private final boolean added;
+}
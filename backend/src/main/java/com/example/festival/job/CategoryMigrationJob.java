@@ -0,0 +1,45 @@
+package com.example.festival.job;
+
+import com.example.festival.cache.FestivalCatalog;
+import com.example.festival.entity.Festival;
+import com.example.festival.repository.FestivalRepository;
+import com.example.festival.service.FestivalCategoryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 기동 시 레거시 Festival.categories 문자열을 category / festival_category 로 옮긴다.
+ * 옮긴 축제는 categories 가 null 이 되므로 다시 처리되지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryMigrationJob {
+
+    private final FestivalRepository festivalRepository;
+    private final FestivalCategoryService festivalCategoryService;
+    private final FestivalCatalog festivalCatalog;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        List<Festival> legacy = festivalRepository.findByCategoriesIsNotNull();
+        if (legacy.isEmpty()) {
+            return;
+        }
+        for (Festival festival : legacy) {
+            transactionTemplate.executeWithoutResult(status -> {
+                festivalCategoryService.assign(festival, festival.getCategories());
+                festivalRepository.save(festival);
+            });
+        }
+        log.info("레거시 카테고리 문자열 이전 완료: {}건", legacy.size());
+        festivalCatalog.scheduleRebuild();
+    }
+}
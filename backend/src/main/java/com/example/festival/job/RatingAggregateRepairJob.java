@@ -0,0 +1,52 @@
+package com.example.festival.job;
+
+import com.example.festival.cache.FestivalCatalog;
+import com.example.festival.cache.RatingHistogramCache;
+import com.example.festival.event.RatingAggregatesRepairedEvent;
+import com.example.festival.repository.FestivalRatingBucketRepository;
+import com.example.festival.repository.FestivalRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 축제 평점 집계(ratingSum / reviewCount / averageRating)와 별점 분포를 review 테이블 기준으로 다시 계산한다.
+ * 평소에는 ReviewServiceImpl 이 증감분만 반영하므로, 기동 시와 매일 새벽 한 번 어긋난 값을 바로잡는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RatingAggregateRepairJob {
+
+    private final FestivalRepository festivalRepository;
+    private final FestivalCatalog festivalCatalog;
+    private final FestivalRatingBucketRepository festivalRatingBucketRepository;
+    private final RatingHistogramCache ratingHistogramCache;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void repairOnStartup() {
+        repair();
+    }
+
+    @Scheduled(cron = "${festival.rating.repair-cron:0 30 4 * * *}")
+    public void repair() {
+        int updated = festivalRepository.rebuildRatingAggregates();
+        log.info("축제 평점 집계 재계산 완료: {}건", updated);
+        festivalCatalog.scheduleRebuild();
+        eventPublisher.publishEvent(new RatingAggregatesRepairedEvent(updated));
+
+        Integer buckets = transactionTemplate.execute(status -> {
+            festivalRatingBucketRepository.deleteAllRows();
+            return festivalRatingBucketRepository.rebuildFromReviews();
+        });
+        ratingHistogramCache.clear();
+        log.info("축제 별점 분포 재계산 완료: {}개 구간", buckets);
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.festival.job;
+
+import com.example.festival.entity.Reservation;
+import com.example.festival.repository.ReservationArchiveRepository;
+import com.example.festival.repository.ReservationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 지난 날짜의 종료된 예약을 reservation_archive 로 옮겨 reservation 테이블을 작게 유지한다.
+ * chunk-size 건씩 각각의 트랜잭션에서 복사 후 삭제하므로, 중간에 멈춰도 다음 실행에서 이어서 처리된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationArchiveJob {
+
+    private static final Set<Reservation.Status> FINAL_STATUSES =
+            EnumSet.of(Reservation.Status.ATTENDED, Reservation.Status.CANCELLED);
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationArchiveRepository reservationArchiveRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${festival.archive.retention-days:30}")
+    private int retentionDays;
+
+    @Value("${festival.archive.chunk-size:1000}")
+    private int chunkSize;
+
+    @Scheduled(cron = "${festival.archive.cron:0 0 5 * * *}")
+    public void archive() {
+        LocalDate before = LocalDate.now().minusDays(retentionDays);
+        long total = 0;
+        while (true) {
+            Integer moved = transactionTemplate.execute(status -> archiveChunk(before));
+            if (moved == null || moved == 0) {
+                break;
+            }
+            total += moved;
+        }
+        if (total > 0) {
+            log.info("{} 이전 종료 예약 보관 완료: {}건", before, total);
+        }
+    }
+
+    private int archiveChunk(LocalDate before) {
+        List<Long> ids = reservationRepository.findArchivableIds(before, FINAL_STATUSES, Limit.of(chunkSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        reservationArchiveRepository.copyFromReservations(ids, LocalDateTime.now());
+        return reservationRepository.deleteAllByIdIn(ids);
+    }
+}
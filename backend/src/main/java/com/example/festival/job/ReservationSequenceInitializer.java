@@ -0,0 +1,31 @@
+package com.example.festival.job;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * reservation_seq 를 기존 예약 id(AUTO_INCREMENT 시절 발급분) 뒤로 맞춘다.
+ * 웹 서버가 요청을 받기 전에 실행되도록 SmartInitializingSingleton 으로 둔다.
+ * SETVAL 은 현재 값보다 작으면 무시되므로 매 기동마다 실행해도 된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationSequenceInitializer implements SmartInitializingSingleton {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Long maxId = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(reservation_id), 0) FROM reservation", Long.class);
+        if (maxId == null || maxId == 0) {
+            return;
+        }
+        jdbcTemplate.queryForList("SELECT SETVAL(reservation_seq, " + maxId + ")");
+        log.info("reservation_seq 를 {} 이후로 맞췄습니다.", maxId);
+    }
+}
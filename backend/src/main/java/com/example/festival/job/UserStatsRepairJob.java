@@ -0,0 +1,25 @@
+package com.example.festival.job;
+
+import com.example.festival.service.UserStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * user_stats 를 reservation / reservation_archive / review / wishlist 기준으로 다시 계산한다.
+ * 평소에는 각 서비스가 증감분만 반영하므로 매일 새벽 한 번 어긋난 값을 바로잡는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserStatsRepairJob {
+
+    private final UserStatsService userStatsService;
+
+    @Scheduled(cron = "${festival.user-stats.repair-cron:0 45 4 * * *}")
+    public void repair() {
+        int updated = userStatsService.recomputeAll();
+        log.info("사용자 활동 집계 재계산 완료: {}건", updated);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.festival.repository;
+
+import com.example.festival.entity.Category;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface CategoryRepository extends JpaRepository<Category, Long> {
+}
@@ -0,0 +1,34 @@
+package com.example.festival.repository;
+
+import com.example.festival.entity.FestivalCategory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface FestivalCategoryRepository extends JpaRepository<FestivalCategory, Long> {
+
+    String NAME_SELECT = """
+        select fc.festival.festivalId as festivalId, c.name as name
+        from FestivalCategory fc
+        join fc.category c
+    """;
+
+    void deleteByFestival_FestivalId(Long festivalId);
+
+    /**
+     * 축제의 카테고리 이름. 연결 행 id 순, 즉 관리자가 입력한 순서대로 나온다.
+     */
+    @Query(NAME_SELECT + " where fc.festival.festivalId = :festivalId order by fc.festivalCategoryId")
+    List<CategoryNameRow> findNamesByFestivalId(@Param("festivalId") Long festivalId);
+
+    /** 카탈로그 재생성용: 전체 축제의 카테고리 이름을 입력 순서대로 */
+    @Query(NAME_SELECT + " order by fc.festivalCategoryId")
+    List<CategoryNameRow> findAllNames();
+
+    interface CategoryNameRow {
+        Long getFestivalId();
+        String getName();
+    }
+}
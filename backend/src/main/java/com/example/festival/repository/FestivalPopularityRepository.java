@@ -0,0 +1,51 @@
+package com.example.festival.repository;
+
+import com.example.festival.entity.FestivalPopularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface FestivalPopularityRepository extends JpaRepository<FestivalPopularity, Long> {
+
+    /**
+     * 증감분 반영. 그사이 지워진 축제면 아무것도 하지 않는다.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+        insert into festival_popularity (festival_id, wishlist_count, reserved_head_count)
+        select f.festival_id, greatest(:wishlist, 0), greatest(:headCount, 0)
+        from festival f
+        where f.festival_id = :festivalId
+        on duplicate key update
+            wishlist_count = greatest(wishlist_count + :wishlist, 0),
+            reserved_head_count = greatest(reserved_head_count + :headCount, 0)
+    """, nativeQuery = true)
+    int applyDelta(@Param("festivalId") Long festivalId,
+                   @Param("wishlist") long wishlist,
+                   @Param("headCount") long headCount);
+
+    @Modifying
+    @Transactional
+    @Query(value = "delete from festival_popularity where festival_id = :festivalId", nativeQuery = true)
+    int deleteByFestivalId(@Param("festivalId") Long festivalId);
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+        insert into festival_popularity (festival_id, wishlist_count, reserved_head_count)
+        select f.festival_id,
+               (select count(*) from wishlist w where w.festival_id = f.festival_id),
+               (select coalesce(sum(r.head_count), 0) from reservation r
+                where r.festival_id = f.festival_id and r.status <> 'CANCELLED')
+             + (select coalesce(sum(a.head_count), 0) from reservation_archive a
+                where a.festival_id = f.festival_id and a.status <> 'CANCELLED')
+        from festival f
+        on duplicate key update
+            wishlist_count = values(wishlist_count),
+            reserved_head_count = values(reserved_head_count)
+    """, nativeQuery = true)
+    int rebuildAll();
+}
@@ -0,0 +1,47 @@
+package com.example.festival.repository;
+
+import com.example.festival.entity.FestivalRatingBucket;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface FestivalRatingBucketRepository extends JpaRepository<FestivalRatingBucket, Long> {
+
+    List<FestivalRatingBucket> findByFestivalId(Long festivalId);
+
+    void deleteByFestivalId(Long festivalId);
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+        insert into festival_rating_bucket (festival_id, half_stars, review_count)
+        values (:festivalId, :halfStars, greatest(:delta, 0))
+        on duplicate key update review_count = greatest(review_count + :delta, 0)
+    """, nativeQuery = true)
+    int applyDelta(@Param("festivalId") Long festivalId,
+                   @Param("halfStars") int halfStars,
+                   @Param("delta") long delta);
+
+    @Modifying
+    @Transactional
+    @Query(value = "delete from festival_rating_bucket", nativeQuery = true)
+    int deleteAllRows();
+
+    /**
+     * review 테이블 기준으로 전체 분포를 다시 채운다. deleteAllRows 와 같은 트랜잭션에서 호출한다.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+        insert into festival_rating_bucket (festival_id, half_stars, review_count)
+        select festival_id, least(greatest(round(rating * 2), 1), 10), count(*)
+        from review
+        where rating is not null
+        group by festival_id, least(greatest(round(rating * 2), 1), 10)
+    """, nativeQuery = true)
+    int rebuildFromReviews();
+}
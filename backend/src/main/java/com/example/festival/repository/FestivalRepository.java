@@ -2,10 +2,50 @@ package com.example.festival.repository;
 
 import com.example.festival.entity.Festival;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
 import java.util.List;
 
 public interface FestivalRepository extends JpaRepository<Festival, Long> {
-    List<Festival> findByEndDateGreaterThanEqualOrderByStartDateAsc(LocalDate date);
+    List<Festival> findAllByOrderByAverageRatingDescFestivalIdAsc();
+
+    List<Festival> findByCategoriesIsNotNull();
+
+    /**
+     * 평점 집계에 증감분을 반영한다.
+     * MariaDB 는 SET 절을 왼쪽부터 순서대로 평가하므로 averageRating 을 가장 먼저 계산한다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Transactional
+    @Query("""
+        update Festival f
+        set f.averageRating = case when f.reviewCount + :countDelta > 0
+                                   then (f.ratingSum + :ratingDelta) / (f.reviewCount + :countDelta)
+                                   else 0 end,
+            f.ratingSum = f.ratingSum + :ratingDelta,
+            f.reviewCount = f.reviewCount + :countDelta
+        where f.festivalId = :festivalId
+    """)
+    int applyRatingDelta(@Param("festivalId") Long festivalId,
+                         @Param("ratingDelta") double ratingDelta,
+                         @Param("countDelta") long countDelta);
+
+    /**
+     * review 테이블에서 모든 축제의 평점 집계를 다시 계산한다.
+     */
+    @Modifying
+    @Transactional
+    @Query("""
+        update Festival f
+        set f.ratingSum = coalesce((select sum(r.rating) from Review r
+                                    where r.festival.festivalId = f.festivalId), 0),
+            f.reviewCount = (select count(r) from Review r
+                             where r.festival.festivalId = f.festivalId and r.rating is not null),
+            f.averageRating = coalesce((select avg(r.rating) from Review r
+                                        where r.festival.festivalId = f.festivalId), 0)
+    """)
+    int rebuildRatingAggregates();
 }
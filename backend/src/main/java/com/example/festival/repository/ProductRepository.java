@@ -1,7 +1,12 @@
 package com.example.festival.repository;
 
 import com.example.festival.entity.Product;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -9,4 +14,20 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     List<Product> findByFestival_FestivalId(Long festivalId);
 
     void deleteByFestival_FestivalId(Long festivalId);
+
+    List<Product> findByProductIdGreaterThanOrderByProductIdAsc(Long productId, Limit limit);
+
+    /**
+     * 재고가 quantity 이상일 때만 차감한다. 차감했으면 1, 재고가 부족하면 0 을 돌려준다.
+     * 조건 검사와 차감이 한 문장이라 동시에 여러 요청이 와도 초과 판매되지 않는다.
+     */
+    @Modifying
+    @Transactional
+    @Query("update Product p set p.stock = p.stock - :quantity where p.productId = :productId and p.stock >= :quantity")
+    int decrementStock(@Param("productId") Long productId, @Param("quantity") int quantity);
+
+    @Modifying
+    @Transactional
+    @Query("update Product p set p.stock = p.stock + :quantity where p.productId = :productId")
+    int incrementStock(@Param("productId") Long productId, @Param("quantity") int quantity);
 }
@@ -0,0 +1,54 @@
+package com.example.festival.repository;
+
+import com.example.festival.entity.ProductSlot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ProductSlotRepository extends JpaRepository<ProductSlot, Long> {
+
+    List<ProductSlot> findByProduct_ProductId(Long productId);
+
+    List<ProductSlot> findByProduct_ProductIdIn(Collection<Long> productIds);
+
+    Optional<ProductSlot> findByProduct_ProductIdAndSlotDateAndSlotTime(Long productId, LocalDate slotDate, LocalTime slotTime);
+
+    void deleteByProduct_ProductId(Long productId);
+
+    void deleteByProduct_Festival_FestivalId(Long festivalId);
+
+    /**
+     * 잔여 인원이 quantity 이상일 때만 점유한다. 점유했으면 1, 부족하면 0.
+     */
+    @Modifying
+    @Transactional
+    @Query("""
+        update ProductSlot s set s.reserved = s.reserved + :quantity
+        where s.product.productId = :productId and s.slotDate = :date and s.slotTime = :time
+          and s.reserved + :quantity <= s.capacity
+    """)
+    int reserve(@Param("productId") Long productId,
+                @Param("date") LocalDate date,
+                @Param("time") LocalTime time,
+                @Param("quantity") int quantity);
+
+    @Modifying
+    @Transactional
+    @Query("""
+        update ProductSlot s set s.reserved = s.reserved - :quantity
+        where s.product.productId = :productId and s.slotDate = :date and s.slotTime = :time
+          and s.reserved >= :quantity
+    """)
+    int release(@Param("productId") Long productId,
+                @Param("date") LocalDate date,
+                @Param("time") LocalTime time,
+                @Param("quantity") int quantity);
+}
@@ -0,0 +1,67 @@
+package com.example.festival.repository;
+
+import com.example.festival.entity.Reservation;
+import com.example.festival.entity.ReservationArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ReservationArchiveRepository extends JpaRepository<ReservationArchive, Long> {
+
+    String ROW_SELECT = """
+        select r.reservationId as reservationId, u.userId as userId,
+               f.festivalId as festivalId, f.name as festivalName,
+               p.productId as productId, p.name as productName, p.imageUrl as productImageUrl,
+               p.festival.festivalId as productFestivalId,
+               r.discountRate as discountRate, r.reservationDate as reservationDate,
+               r.date as date, r.time as time, r.headCount as headCount, r.status as status
+        from ReservationArchive r
+        join r.user u
+        join r.festival f
+        join r.product p
+    """;
+
+    @Query(ROW_SELECT + " where u.userId = :userId order by r.reservationId")
+    List<ReservationRepository.ReservationRow> findRowsByUser(@Param("userId") Long userId);
+
+    @Query(ROW_SELECT + " order by r.reservationId")
+    List<ReservationRepository.ReservationRow> findAllRows();
+
+    long countByUser_UserIdAndStatusNot(Long userId, Reservation.Status status);
+
+    boolean existsByUser_UserIdAndFestival_FestivalIdAndStatusNot(Long userId, Long festivalId, Reservation.Status status);
+
+    @Query("""
+        select r.user.userId, r.festival.festivalId, count(r) from ReservationArchive r
+        where r.status <> :excluded
+        group by r.user.userId, r.festival.festivalId
+    """)
+    List<Object[]> countActiveByUserAndFestival(@Param("excluded") Reservation.Status excluded);
+
+    @Query("""
+        select distinct r.festival.festivalId from ReservationArchive r
+        where r.user.userId = :userId and r.status <> :excluded
+    """)
+    List<Long> findFestivalIdsByUser(@Param("userId") Long userId, @Param("excluded") Reservation.Status excluded);
+
+    void deleteByFestival_FestivalId(Long festivalId);
+
+    /**
+     * reservation 의 행을 id 그대로 복사한다. 같은 트랜잭션에서 원본을 지워야 한다.
+     */
+    @Modifying
+    @Query("""
+        insert into ReservationArchive (reservationId, discountRate, reservationDate, user, festival, product,
+                                        date, time, headCount, status, archivedAt)
+        select r.reservationId, r.discountRate, r.reservationDate, r.user, r.festival, r.product,
+               r.date, r.time, r.headCount, r.status, :archivedAt
+        from Reservation r
+        where r.reservationId in :ids
+    """)
+    int copyFromReservations(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+}
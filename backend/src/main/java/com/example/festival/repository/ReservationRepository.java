@@ -1,24 +1,161 @@
 package com.example.festival.repository;
 
 import com.example.festival.entity.Reservation;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
 
+    /**
+     * 목록 응답에 필요한 컬럼만 한 번의 조인 쿼리로 읽는다. 엔티티를 올리지 않으므로 LAZY 연관 추가 조회가 없다.
+     */
+    String ROW_SELECT = """
+        select r.reservationId as reservationId, u.userId as userId,
+               f.festivalId as festivalId, f.name as festivalName,
+               p.productId as productId, p.name as productName, p.imageUrl as productImageUrl,
+               p.festival.festivalId as productFestivalId,
+               r.discountRate as discountRate, r.reservationDate as reservationDate,
+               r.date as date, r.time as time, r.headCount as headCount, r.status as status
+        from Reservation r
+        join r.user u
+        join r.festival f
+        join r.product p
+    """;
+
     List<Reservation> findByUser_UserIdAndFestival_FestivalId(Long userId, Long festivalId);
 
-    List<Reservation> findByUser_UserId(Long userId);
+    boolean existsByUser_UserIdAndFestival_FestivalIdAndStatusNot(Long userId, Long festivalId, Reservation.Status status);
+
+    /**
+     * 리뷰 작성 자격 인덱스 적재용: (userId, festivalId, 취소되지 않은 예약 수)
+     */
+    @Query("""
+        select r.user.userId, r.festival.festivalId, count(r) from Reservation r
+        where r.status <> :excluded
+        group by r.user.userId, r.festival.festivalId
+    """)
+    List<Object[]> countActiveByUserAndFestival(@Param("excluded") Reservation.Status excluded);
+
+    @Query(ROW_SELECT + " where u.userId = :userId order by r.reservationId")
+    List<ReservationRow> findRowsByUser(@Param("userId") Long userId);
+
+    @Query(ROW_SELECT + " order by r.reservationId")
+    List<ReservationRow> findAllRows();
+
+    @Query(ROW_SELECT + " where r.reservationId > :reservationId order by r.reservationId")
+    List<ReservationRow> findRowsAfter(@Param("reservationId") Long reservationId, Limit limit);
 
     long countByUser_UserId(Long userId);
 
     long countByUser_UserIdAndStatusNot(Long userId, Reservation.Status status);
 
-    List<Reservation> findByUser_UserIdAndProduct_Festival_FestivalId(Long userId, Long festivalId);
+    /**
+     * 취소/삭제 대상 예약을 잠그고 읽는다. 동시에 들어온 취소나 참석 처리와 상태 확인이 엇갈리지 않게 한다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from Reservation r where r.reservationId = :reservationId and r.user.userId = :userId")
+    Optional<Reservation> lockByIdAndUser(@Param("reservationId") Long reservationId, @Param("userId") Long userId);
 
-    Optional<Reservation> findByReservationIdAndUser_UserId(Long reservationId, Long userId);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from Reservation r where r.reservationId = :reservationId")
+    Optional<Reservation> lockById(@Param("reservationId") Long reservationId);
 
     void deleteByFestival_FestivalId(Long festivalId);
+
+    /**
+     * 관리자 내보내기용 전방향 커서 조회. 호출하는 쪽 트랜잭션 안에서 스트림을 닫아야 한다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        select r from Reservation r
+        join fetch r.user
+        join fetch r.festival
+        join fetch r.product p
+        join fetch p.festival
+        order by r.reservationId
+    """)
+    Stream<Reservation> streamAllWithDetails();
+
+    @Query("""
+        select coalesce(sum(r.headCount), 0) from Reservation r
+        where r.product.productId = :productId and r.date = :date and r.time = :time
+          and r.status <> com.example.festival.entity.Reservation.Status.CANCELLED
+    """)
+    long sumHeadCountBySlot(@Param("productId") Long productId,
+                            @Param("date") LocalDate date,
+                            @Param("time") LocalTime time);
+
+    @Query("""
+        select distinct r.festival.festivalId from Reservation r
+        where r.user.userId = :userId and r.status <> :excluded
+    """)
+    List<Long> findFestivalIdsByUser(@Param("userId") Long userId, @Param("excluded") Reservation.Status excluded);
+
+    /**
+     * 보관 대상: date 가 before 이전이고 더 바뀔 일이 없는 상태(ATTENDED / CANCELLED)인 예약
+     */
+    @Query("""
+        select r.reservationId from Reservation r
+        where r.date < :before and r.status in :statuses
+        order by r.reservationId
+    """)
+    List<Long> findArchivableIds(@Param("before") LocalDate before,
+                                 @Param("statuses") Collection<Reservation.Status> statuses,
+                                 Limit limit);
+
+    @Modifying
+    @Query("delete from Reservation r where r.reservationId in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 참석 처리 대상(아직 사용되지 않은 예약)을 잠그고 읽는다. 같은 트랜잭션에서 markAttendedIn 으로 갱신한다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from Reservation r where r.reservationId in :ids and r.status in :statuses")
+    List<Reservation> lockCheckInTargets(@Param("ids") Collection<Long> ids,
+                                           @Param("statuses") Collection<Reservation.Status> statuses);
+
+    @Modifying
+    @Query("""
+        update Reservation r set r.status = com.example.festival.entity.Reservation.Status.ATTENDED
+        where r.reservationId in :ids and r.status in :statuses
+    """)
+    int markAttendedIn(@Param("ids") Collection<Long> ids,
+                       @Param("statuses") Collection<Reservation.Status> statuses);
+
+    interface ReservationRow {
+        Long getReservationId();
+        Long getUserId();
+        Long getFestivalId();
+        String getFestivalName();
+        Long getProductId();
+        String getProductName();
+        String getProductImageUrl();
+        Long getProductFestivalId();
+        Double getDiscountRate();
+        LocalDateTime getReservationDate();
+        LocalDate getDate();
+        LocalTime getTime();
+        int getHeadCount();
+        Reservation.Status getStatus();
+    }
 }
@@ -1,42 +1,98 @@
 package com.example.festival.repository;
 
-import com.example.festival.entity.Festival;
 import com.example.festival.entity.Review;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
 
+    /**
+     * 목록 응답에 필요한 컬럼만 한 번의 조인 쿼리로 읽는다.
+     */
+    String ROW_SELECT = """
+        select r.reviewId as reviewId, r.rating as rating, r.content as content,
+               r.reviewDate as reviewDate, r.lastModified as lastModified,
+               u.userId as userId, u.name as userName,
+               f.festivalId as festivalId, f.name as festivalName
+        from Review r
+        join r.user u
+        join r.festival f
+    """;
+
     Optional<Review> findByUser_UserIdAndFestival_FestivalId(Long userId, Long festivalId);
 
-    List<Review> findByFestival_FestivalId(Long festivalId);
+    @Query(ROW_SELECT + " where f.festivalId = :festivalId order by r.reviewId")
+    List<ReviewRow> findRowsByFestival(@Param("festivalId") Long festivalId);
+
+    @Query(ROW_SELECT + " where u.userId = :userId order by r.reviewId")
+    List<ReviewRow> findRowsByUser(@Param("userId") Long userId);
+
+    @Query(ROW_SELECT + " order by r.reviewId")
+    List<ReviewRow> findAllRows();
 
-    List<Review> findByUser_UserId(Long userId);
+    @Query(ROW_SELECT + " where r.reviewId > :reviewId order by r.reviewId")
+    List<ReviewRow> findRowsAfter(@Param("reviewId") Long reviewId, Limit limit);
 
-    @Query("select avg(r.rating) from Review r where r.festival.festivalId = :festivalId")
-    Double findAverageRatingByFestival(@Param("festivalId") Long festivalId);
+    @Query(ROW_SELECT + " where f.festivalId = :festivalId and r.reviewId > :reviewId order by r.reviewId")
+    List<ReviewRow> findRowsByFestivalAfter(@Param("festivalId") Long festivalId,
+                                            @Param("reviewId") Long reviewId,
+                                            Limit limit);
 
     void deleteByFestival_FestivalId(Long festivalId);
 
-    @Query("""
-        select f as festival,
-               coalesce(avg(r.rating), 0) as avgRating,
-               count(r.reviewId) as reviewCount
-        from Festival f
-        left join Review r on r.festival = f
-        group by f.festivalId, f.name, f.description, f.location, f.categories,
-                 f.lat, f.lng, f.imageUrl, f.region, f.startDate, f.endDate
-        order by avgRating desc
-    """)
-    List<FestivalRatingProjection> findAllFestivalsOrderByRating();
-
-    interface FestivalRatingProjection {
-        Festival getFestival();
-        Double getAvgRating();
-        Long getReviewCount();
+    /**
+     * 관리자 내보내기용 전방향 커서 조회. 호출하는 쪽 트랜잭션 안에서 스트림을 닫아야 한다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select r from Review r join fetch r.user join fetch r.festival order by r.reviewId")
+    Stream<Review> streamAllWithDetails();
+
+    /**
+     * 리뷰 키워드 색인 재생성용. 호출하는 쪽 트랜잭션 안에서 스트림을 닫아야 한다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select r.festival.festivalId as festivalId, r.content as content, r.lastModified as lastModified from Review r")
+    Stream<ReviewContentRow> streamContents();
+
+    @Query("select r.festival.festivalId as festivalId, r.rating as rating from Review r where r.user.userId = :userId")
+    List<UserRatingProjection> findRatingsByUser(@Param("userId") Long userId);
+
+    interface ReviewContentRow {
+        Long getFestivalId();
+        String getContent();
+        LocalDateTime getLastModified();
+    }
+
+    interface UserRatingProjection {
+        Long getFestivalId();
+        Double getRating();
+    }
+
+    interface ReviewRow {
+        Long getReviewId();
+        Double getRating();
+        String getContent();
+        LocalDateTime getReviewDate();
+        LocalDateTime getLastModified();
+        Long getUserId();
+        String getUserName();
+        Long getFestivalId();
+        String getFestivalName();
     }
 }
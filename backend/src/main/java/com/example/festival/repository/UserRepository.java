@@ -1,10 +1,14 @@
 package com.example.festival.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.example.festival.entity.User;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
+
+    List<User> findByUserIdGreaterThanOrderByUserIdAsc(Long userId, Limit limit);
 }
@@ -0,0 +1,80 @@
+package com.example.festival.repository;
+
+import com.example.festival.entity.UserStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface UserStatsRepository extends JpaRepository<UserStats, Long> {
+
+    String RECOMPUTE_SELECT = """
+        select u.user_id,
+               (select count(*) from reservation r
+                 where r.user_id = u.user_id and r.status in ('ACTIVE', 'RESERVED')),
+               (select count(*) from reservation r
+                 where r.user_id = u.user_id and r.status = 'ATTENDED')
+             + (select count(*) from reservation_archive a
+                 where a.user_id = u.user_id and a.status = 'ATTENDED'),
+               (select count(*) from review v where v.user_id = u.user_id),
+               (select count(*) from wishlist w where w.user_id = u.user_id)
+        from `user` u
+    """;
+
+    String UPSERT_PREFIX = """
+        insert into user_stats (user_id, active_reservations, attended_reservations, review_count, wishlist_count)
+    """;
+
+    String OVERWRITE_SUFFIX = """
+        on duplicate key update
+            active_reservations = values(active_reservations),
+            attended_reservations = values(attended_reservations),
+            review_count = values(review_count),
+            wishlist_count = values(wishlist_count)
+    """;
+
+    /**
+     * 증감분 반영. 행이 없는 사용자는 건너뛰고, 처음 조회할 때 recompute 로 채운다.
+     */
+    @Modifying
+    @Transactional
+    @Query("""
+        update UserStats s set
+            s.activeReservations = s.activeReservations + :active,
+            s.attendedReservations = s.attendedReservations + :attended,
+            s.reviewCount = s.reviewCount + :reviews,
+            s.wishlistCount = s.wishlistCount + :wishlist
+        where s.userId = :userId
+    """)
+    int applyDelta(@Param("userId") Long userId,
+                   @Param("active") long active,
+                   @Param("attended") long attended,
+                   @Param("reviews") long reviews,
+                   @Param("wishlist") long wishlist);
+
+    @Modifying(flushAutomatically = true)
+    @Transactional
+    @Query(value = UPSERT_PREFIX + RECOMPUTE_SELECT + " where u.user_id in (:userIds) " + OVERWRITE_SUFFIX,
+            nativeQuery = true)
+    int recompute(@Param("userIds") Collection<Long> userIds);
+
+    @Modifying
+    @Transactional
+    @Query(value = UPSERT_PREFIX + RECOMPUTE_SELECT + OVERWRITE_SUFFIX, nativeQuery = true)
+    int recomputeAll();
+
+    /**
+     * 축제 삭제로 집계가 바뀌는 사용자들
+     */
+    @Query(value = """
+        select user_id from reservation where festival_id = :festivalId
+        union select user_id from reservation_archive where festival_id = :festivalId
+        union select user_id from review where festival_id = :festivalId
+        union select user_id from wishlist where festival_id = :festivalId
+    """, nativeQuery = true)
+    List<Long> findUserIdsByFestival(@Param("festivalId") Long festivalId);
+}
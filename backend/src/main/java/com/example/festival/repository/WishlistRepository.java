@@ -2,17 +2,15 @@ package com.example.festival.repository;
 
 import com.example.festival.entity.Wishlist;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
-import java.util.Optional;
 
 public interface WishlistRepository extends JpaRepository<Wishlist, Long> {
 
-    Optional<Wishlist> findByUser_UserIdAndFestival_FestivalId(Long userId, Long festivalId);
-
-    List<Wishlist> findByUser_UserId(Long userId);
-
-    void deleteByUser_UserIdAndFestival_FestivalId(Long userId, Long festivalId);
-
     void deleteByFestival_FestivalId(Long festivalId);
+
+    @Query("select w.festival.festivalId from Wishlist w where w.user.userId = :userId")
+    List<Long> findFestivalIdsByUser(@Param("userId") Long userId);
 }
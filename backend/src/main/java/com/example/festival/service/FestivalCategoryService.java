@@ -0,0 +1,50 @@
+package com.example.festival.service;
+
+import com.example.festival.cache.CategoryDictionary;
+import com.example.festival.entity.Category;
+import com.example.festival.entity.Festival;
+import com.example.festival.entity.FestivalCategory;
+import com.example.festival.repository.CategoryRepository;
+import com.example.festival.repository.FestivalCategoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 축제의 카테고리(festival_category 조인 행 + categoryMask)를 갱신한다.
+ * 호출하는 쪽의 트랜잭션 안에서 실행된다.
+ */
+@Service
+@RequiredArgsConstructor
+public class FestivalCategoryService {
+
+    private final CategoryDictionary categoryDictionary;
+    private final CategoryRepository categoryRepository;
+    private final FestivalCategoryRepository festivalCategoryRepository;
+
+    /**
+     * 쉼표로 구분된 카테고리 문자열을 사전 id 로 바꿔 축제에 연결하고 마스크를 다시 계산한다.
+     * festival 은 이미 저장되어 id 가 있어야 한다.
+     */
+    public void assign(Festival festival, String rawCategories) {
+        List<Long> categoryIds = categoryDictionary.resolveOrCreate(categoryDictionary.parse(rawCategories));
+
+        festivalCategoryRepository.deleteByFestival_FestivalId(festival.getFestivalId());
+        festivalCategoryRepository.flush();
+        List<FestivalCategory> links = categoryIds.stream()
+                .map(id -> FestivalCategory.builder()
+                        .festival(festival)
+                        .category(categoryRepository.getReferenceById(id))
+                        .build())
+                .toList();
+        festivalCategoryRepository.saveAll(links);
+
+        festival.setCategoryMask(categoryDictionary.maskOfIds(categoryIds));
+        festival.setCategories(null); // 레거시 문자열은 더 이상 유지하지 않는다
+    }
+
+    public void removeAll(Long festivalId) {
+        festivalCategoryRepository.deleteByFestival_FestivalId(festivalId);
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.festival.service;
+
+import com.example.festival.cache.PopularityCounters;
+import com.example.festival.dto.FestivalResponseDTO;
+import com.example.festival.entity.Festival;
+import com.example.festival.repository.FestivalCategoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Festival 엔티티 -> FestivalResponseDTO 변환.
+ * 서비스와 카탈로그 스냅샷이 같은 변환 규칙을 쓰도록 분리했다.
+ *
+ * 카테고리 이름은 festival_category 에서 입력 순서대로 읽는다. categoryMask 는 id 64 까지만 담을 수 있어
+ * 필터/추천 매칭에만 쓰고 응답에는 쓰지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FestivalMapper {
+
+    private final FestivalCategoryRepository festivalCategoryRepository;
+    private final PopularityCounters popularityCounters;
+
+    public FestivalResponseDTO toDTO(Festival f) {
+        List<String> categories = festivalCategoryRepository.findNamesByFestivalId(f.getFestivalId()).stream()
+                .map(FestivalCategoryRepository.CategoryNameRow::getName)
+                .toList();
+        return toDTO(f, categories);
+    }
+
+    /**
+     * 여러 축제를 한 번에 변환한다. 카테고리 이름은 축제마다 읽지 않고 전체를 한 번에 읽는다.
+     */
+    public List<FestivalResponseDTO> toDTOs(List<Festival> festivals) {
+        Map<Long, List<String>> namesByFestival = new HashMap<>();
+        for (FestivalCategoryRepository.CategoryNameRow row : festivalCategoryRepository.findAllNames()) {
+            namesByFestival.computeIfAbsent(row.getFestivalId(), id -> new ArrayList<>()).add(row.getName());
+        }
+        List<FestivalResponseDTO> dtos = new ArrayList<>(festivals.size());
+        for (Festival f : festivals) {
+            dtos.add(toDTO(f, List.copyOf(namesByFestival.getOrDefault(f.getFestivalId(), List.of()))));
+        }
+        return dtos;
+    }
+
+    /**
+     * 인기 카운터만 현재 값으로 바꾼 사본. 값이 같으면 dto 를 그대로 돌려준다.
+     */
+    public FestivalResponseDTO withPopularity(FestivalResponseDTO dto) {
+        long wishlistCount = popularityCounters.wishlistCount(dto.getId());
+        long reservedHeadCount = popularityCounters.reservedHeadCount(dto.getId());
+        if (dto.getWishlistCount() == wishlistCount && dto.getReservedHeadCount() == reservedHeadCount) {
+            return dto;
+        }
+        return dto.toBuilder()
+                .wishlistCount(wishlistCount)
+                .reservedHeadCount(reservedHeadCount)
+                .build();
+    }
+
+    private FestivalResponseDTO toDTO(Festival f, List<String> categories) {
+        // 대표 카테고리는 관리자가 처음 입력한 카테고리
+        String primaryCategory = categories.isEmpty() ? null : categories.get(0);
+
+        return FestivalResponseDTO.builder()
+                .id(f.getFestivalId())
+                .title(f.getName())
+                .description(f.getDescription())
+                .location(f.getLocation())
+                .categories(categories)
+                .category(primaryCategory)
+                .averageRating(f.getAverageRating())
+                .lat(f.getLat())
+                .lng(f.getLng())
+                .imageUrl(f.getImageUrl())
+                .region(f.getRegion())
+                .startDate(f.getStartDate())
+                .endDate(f.getEndDate())
+                .wishlistCount(popularityCounters.wishlistCount(f.getFestivalId()))
+                .reservedHeadCount(popularityCounters.reservedHeadCount(f.getFestivalId()))
+                .build();
+    }
+}
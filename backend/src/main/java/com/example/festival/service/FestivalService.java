@@ -1,22 +1,47 @@
 package com.example.festival.service;
 
+import com.example.festival.dto.CursorPageDTO;
 import com.example.festival.dto.FestivalResponseDTO;
 import com.example.festival.dto.FestivalRequestDTO;
+import com.example.festival.dto.NearbyFestivalDTO;
+import com.example.festival.dto.RatingSummaryDTO;
+import com.example.festival.dto.ReviewKeywordDTO;
+import java.time.LocalDate;
 import java.util.List;
 
 public interface FestivalService {
 
-    List<FestivalResponseDTO> getAllFestivals();
+    List<FestivalResponseDTO> getAllFestivals(String sort);
+
+    List<FestivalResponseDTO> getFestivalsByCategory(String category, String sort);
+
+    CursorPageDTO<FestivalResponseDTO> getFestivalPage(String category, String sort, String cursor, int limit);
 
     FestivalResponseDTO getFestival(Long festivalId);
 
-    List<FestivalResponseDTO> getRecommendedFestivals(Long userId);
+    RatingSummaryDTO getRatingSummary(Long festivalId);
+
+    List<ReviewKeywordDTO> getReviewKeywords(Long festivalId, int limit);
+
+    /**
+     * 추천 순위 상위 후보 중 [offset, offset + limit) 구간. limit 가 없어도 전체 축제가 아니라
+     * festival.recommendation.max-candidates 개까지만 돌려준다.
+     */
+    List<FestivalResponseDTO> getRecommendedFestivals(Long userId, int offset, Integer limit);
 
     FestivalResponseDTO createFestival(FestivalRequestDTO request);
 
     List<FestivalResponseDTO> getUpcomingFestivals();
 
+    List<FestivalResponseDTO> getOngoingFestivals();
+
+    List<FestivalResponseDTO> getFestivalsBetween(LocalDate from, LocalDate to);
+
     FestivalResponseDTO updateFestival(Long festivalId, FestivalRequestDTO request);
 
     void deleteFestival(Long festivalId);
+
+    List<NearbyFestivalDTO> getNearbyFestivals(double lat, double lng, Double radiusKm, int limit);
+
+    List<FestivalResponseDTO> searchFestivals(String query, int limit);
 }
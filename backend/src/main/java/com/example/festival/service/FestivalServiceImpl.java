@@ -1,40 +1,117 @@
 package com.example.festival.service;
 
+import com.example.festival.cache.CatalogSnapshot;
+import com.example.festival.cache.CategoryDictionary;
+import com.example.festival.cache.FestivalCatalog;
+import com.example.festival.cache.FestivalSearchIndex;
+import com.example.festival.cache.GeoGridIndex;
+import com.example.festival.cache.RatingHistogramCache;
+import com.example.festival.cache.RecommendationEngine;
+import com.example.festival.cache.ReviewKeywordIndex;
+import com.example.festival.dto.CursorPageDTO;
 import com.example.festival.dto.FestivalRequestDTO;
 import com.example.festival.dto.FestivalResponseDTO;
+import com.example.festival.dto.NearbyFestivalDTO;
+import com.example.festival.dto.RatingSummaryDTO;
+import com.example.festival.dto.ReviewKeywordDTO;
 import com.example.festival.entity.Festival;
-import com.example.festival.entity.User;
+import com.example.festival.event.FestivalChangedEvent;
+import com.example.festival.repository.FestivalPopularityRepository;
+import com.example.festival.repository.FestivalRatingBucketRepository;
 import com.example.festival.repository.FestivalRepository;
 import com.example.festival.repository.ProductRepository;
+import com.example.festival.repository.ProductSlotRepository;
+import com.example.festival.repository.ReservationArchiveRepository;
 import com.example.festival.repository.ReservationRepository;
 import com.example.festival.repository.ReviewRepository;
-import com.example.festival.repository.UserRepository;
+import com.example.festival.repository.UserStatsRepository;
 import com.example.festival.repository.WishlistRepository;
+import com.example.festival.support.Cursors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Objects;
+import java.util.function.ToDoubleFunction;
 
 @Service
 @RequiredArgsConstructor
 public class FestivalServiceImpl implements FestivalService {
 
+    private static final int MAX_NEARBY_LIMIT = 100;
+    private static final String SORT_RATING = "rating";
+    private static final String SORT_POPULAR = "popular";
+    private static final int MAX_SEARCH_LIMIT = 100;
+
     private final FestivalRepository festivalRepository;
-    private final UserRepository userRepository;
     private final ReviewRepository reviewRepository;
     private final ProductRepository productRepository;
+    private final ProductSlotRepository productSlotRepository;
     private final ReservationRepository reservationRepository;
+    private final ReservationArchiveRepository reservationArchiveRepository;
+    private final UserStatsRepository userStatsRepository;
     private final WishlistRepository wishlistRepository;
+    private final FestivalMapper festivalMapper;
+    private final FestivalCatalog festivalCatalog;
+    private final FestivalSearchIndex festivalSearchIndex;
+    private final CategoryDictionary categoryDictionary;
+    private final FestivalCategoryService festivalCategoryService;
+    private final RecommendationEngine recommendationEngine;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserStatsService userStatsService;
+    private final FestivalRatingBucketRepository festivalRatingBucketRepository;
+    private final RatingHistogramCache ratingHistogramCache;
+    private final ReviewKeywordIndex reviewKeywordIndex;
+    private final FestivalPopularityRepository festivalPopularityRepository;
 
     @Override
-    public List<FestivalResponseDTO> getAllFestivals() {
-        return reviewRepository.findAllFestivalsOrderByRating()
-                .stream()
-                .map(stat -> convertToDTO(stat.getFestival(), stat.getAvgRating()))
-                .toList();
+    public List<FestivalResponseDTO> getAllFestivals(String sort) {
+        CatalogSnapshot snapshot = festivalCatalog.snapshot();
+        return isPopularSort(sort) ? snapshot.getPopularFestivals() : snapshot.getFestivals();
+    }
+
+    @Override
+    public List<FestivalResponseDTO> getFestivalsByCategory(String category, String sort) {
+        return filterByCategory(festivalCatalog.snapshot(), category, isPopularSort(sort));
+    }
+
+    /**
+     * 카탈로그 스냅샷 위에서의 keyset 페이지.
+     * 정렬 키는 기본 (averageRating desc, id asc), sort=popular 이면 (찜 수 + 예약 인원 desc, id asc).
+     */
+    @Override
+    public CursorPageDTO<FestivalResponseDTO> getFestivalPage(String category, String sort, String cursor, int limit) {
+        int size = Cursors.clampLimit(limit);
+        boolean popular = isPopularSort(sort);
+        CatalogSnapshot snapshot = festivalCatalog.snapshot();
+        List<FestivalResponseDTO> source;
+        if (category == null || category.isBlank()) {
+            source = popular ? snapshot.getPopularFestivals() : snapshot.getFestivals();
+        } else {
+            source = filterByCategory(snapshot, category, popular);
+        }
+        ToDoubleFunction<FestivalResponseDTO> sortKey = popular
+                ? CatalogSnapshot::popularity
+                : FestivalResponseDTO::getAverageRating;
+
+        int from = 0;
+        String[] keys = Cursors.decode(cursor, 2);
+        if (keys != null) {
+            try {
+                from = firstAfter(source, sortKey, Double.parseDouble(keys[0]), Long.parseLong(keys[1]));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다.", e);
+            }
+        }
+
+        List<FestivalResponseDTO> fetched = source.subList(from, Math.min(from + size + 1, source.size()));
+        return CursorPageDTO.of(fetched, size, popular
+                ? f -> Cursors.encode(CatalogSnapshot.popularity(f), f.getId())
+                : f -> Cursors.encode(f.getAverageRating(), f.getId()));
     }
 
     @Override
@@ -45,28 +122,55 @@ public class FestivalServiceImpl implements FestivalService {
         return convertToDTO(festival);
     }
 
+    /**
+     * 별점 분포는 메모리 사본에서, 평균은 카탈로그 스냅샷에서 읽는다. review 테이블은 보지 않는다.
+     */
     @Override
-    public List<FestivalResponseDTO> getRecommendedFestivals(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
-
-        String interest = user.getInterest();
-        List<Festival> all = festivalRepository.findAll();
+    public RatingSummaryDTO getRatingSummary(Long festivalId) {
+        FestivalResponseDTO festival = festivalCatalog.snapshot().get(festivalId);
+        Double averageRating;
+        if (festival != null) {
+            averageRating = festival.getAverageRating();
+        } else {
+            // 스냅샷 재생성 전에 만들어진 축제
+            averageRating = festivalRepository.findById(festivalId)
+                    .map(Festival::getAverageRating)
+                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 축제입니다."));
+        }
 
-        List<Festival> preferred = all.stream()
-                .filter(f -> matchesInterest(f, interest))
-                .toList();
+        long[] counts = ratingHistogramCache.counts(festivalId);
+        List<RatingSummaryDTO.Bucket> buckets = new ArrayList<>(counts.length);
+        long total = 0;
+        for (int i = 0; i < counts.length; i++) {
+            buckets.add(new RatingSummaryDTO.Bucket((i + 1) / 2.0, counts[i]));
+            total += counts[i];
+        }
+        return RatingSummaryDTO.builder()
+                .festivalId(festivalId)
+                .reviewCount(total)
+                .averageRating(averageRating)
+                .buckets(buckets)
+                .build();
+    }
 
-        List<Festival> others = all.stream()
-                .filter(f -> !matchesInterest(f, interest))
-                .toList();
+    @Override
+    public List<ReviewKeywordDTO> getReviewKeywords(Long festivalId, int limit) {
+        if (limit < 1 || limit > ReviewKeywordIndex.MAX_KEYWORDS) {
+            throw new IllegalArgumentException("limit 은 1 이상 " + ReviewKeywordIndex.MAX_KEYWORDS + " 이하여야 합니다.");
+        }
+        if (festivalCatalog.snapshot().get(festivalId) == null && !festivalRepository.existsById(festivalId)) {
+            throw new IllegalArgumentException("존재하지 않는 축제입니다.");
+        }
+        return reviewKeywordIndex.topKeywords(festivalId, limit);
+    }
 
-        return concat(preferred, others).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    @Override
+    public List<FestivalResponseDTO> getRecommendedFestivals(Long userId, int offset, Integer limit) {
+        return recommendationEngine.recommend(userId, offset, limit != null ? limit : Integer.MAX_VALUE);
     }
 
     @Override
+    @Transactional
     public FestivalResponseDTO createFestival(FestivalRequestDTO request) {
         String categories = request.getCategories();
         if (categories == null || categories.isBlank()) {
@@ -77,7 +181,6 @@ public class FestivalServiceImpl implements FestivalService {
                 .name(request.getName())
                 .description(request.getDescription())
                 .location(request.getLocation())
-                .categories(categories)
                 .lat(request.getLat())
                 .lng(request.getLng())
                 .imageUrl(request.getImageUrl())
@@ -87,19 +190,32 @@ public class FestivalServiceImpl implements FestivalService {
                 .build();
 
         Festival saved = festivalRepository.save(festival);
+        festivalCategoryService.assign(saved, categories);
+        eventPublisher.publishEvent(
+                new FestivalChangedEvent(saved.getFestivalId(), FestivalChangedEvent.Type.CREATED, saved));
         return convertToDTO(saved);
     }
 
     @Override
     public List<FestivalResponseDTO> getUpcomingFestivals() {
-        LocalDate today = LocalDate.now();
-        return festivalRepository.findByEndDateGreaterThanEqualOrderByStartDateAsc(today)
-                .stream()
-                .map(this::convertToDTO)
-                .toList();
+        return festivalCatalog.dayView().upcoming();
     }
 
     @Override
+    public List<FestivalResponseDTO> getOngoingFestivals() {
+        return festivalCatalog.dayView().ongoing();
+    }
+
+    @Override
+    public List<FestivalResponseDTO> getFestivalsBetween(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("시작일은 종료일보다 늦을 수 없습니다.");
+        }
+        return festivalCatalog.snapshot().getIntervalIndex().overlapping(from, to);
+    }
+
+    @Override
+    @Transactional
     public FestivalResponseDTO updateFestival(Long festivalId, FestivalRequestDTO request) {
         Festival festival = festivalRepository.findById(festivalId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 축제입니다."));
@@ -112,7 +228,7 @@ public class FestivalServiceImpl implements FestivalService {
         if (request.getName() != null) festival.setName(request.getName());
         if (request.getDescription() != null) festival.setDescription(request.getDescription());
         if (request.getLocation() != null) festival.setLocation(request.getLocation());
-        if (categories != null) festival.setCategories(categories);
+        if (categories != null) festivalCategoryService.assign(festival, categories);
         if (request.getLat() != null) festival.setLat(request.getLat());
         if (request.getLng() != null) festival.setLng(request.getLng());
         if (request.getImageUrl() != null) festival.setImageUrl(request.getImageUrl());
@@ -121,70 +237,108 @@ public class FestivalServiceImpl implements FestivalService {
         if (request.getEndDate() != null) festival.setEndDate(request.getEndDate());
 
         Festival saved = festivalRepository.save(festival);
+        eventPublisher.publishEvent(
+                new FestivalChangedEvent(saved.getFestivalId(), FestivalChangedEvent.Type.UPDATED, saved));
         return convertToDTO(saved);
     }
 
     @Override
+    @Transactional
     public void deleteFestival(Long festivalId) {
         if (!festivalRepository.existsById(festivalId)) {
             throw new IllegalArgumentException("존재하지 않는 축제입니다.");
         }
+        List<Long> affectedUsers = userStatsRepository.findUserIdsByFestival(festivalId);
         // Delete dependencies first to avoid FK constraint errors
         reservationRepository.deleteByFestival_FestivalId(festivalId);
+        reservationArchiveRepository.deleteByFestival_FestivalId(festivalId);
         reviewRepository.deleteByFestival_FestivalId(festivalId);
         wishlistRepository.deleteByFestival_FestivalId(festivalId);
+        productSlotRepository.deleteByProduct_Festival_FestivalId(festivalId);
         productRepository.deleteByFestival_FestivalId(festivalId);
+        festivalCategoryService.removeAll(festivalId);
+        festivalRatingBucketRepository.deleteByFestivalId(festivalId);
+        festivalPopularityRepository.deleteByFestivalId(festivalId);
         festivalRepository.deleteById(festivalId);
+        userStatsService.recompute(affectedUsers);
+        eventPublisher.publishEvent(
+                new FestivalChangedEvent(festivalId, FestivalChangedEvent.Type.DELETED, null));
     }
 
-    private boolean matchesInterest(Festival festival, String interest) {
-        if (interest == null || interest.isBlank()) return false;
-        List<String> cats = splitCategories(festival.getCategories());
-        return cats.stream().anyMatch(c -> c.equalsIgnoreCase(interest.trim()));
+    @Override
+    public List<NearbyFestivalDTO> getNearbyFestivals(double lat, double lng, Double radiusKm, int limit) {
+        if (lat < -90 || lat > 90 || lng < -180 || lng > 180) {
+            throw new IllegalArgumentException("올바르지 않은 좌표입니다.");
+        }
+        if (radiusKm != null && radiusKm <= 0) {
+            throw new IllegalArgumentException("반경은 0보다 커야 합니다.");
+        }
+        int cappedLimit = Math.max(1, Math.min(limit, MAX_NEARBY_LIMIT));
+
+        List<GeoGridIndex.Neighbor> neighbors = festivalCatalog.snapshot()
+                .getGeoIndex()
+                .nearest(lat, lng, radiusKm, cappedLimit);
+
+        return neighbors.stream()
+                .map(n -> NearbyFestivalDTO.builder()
+                        .festival(n.festival())
+                        .distanceKm(n.distanceKm())
+                        .build())
+                .toList();
     }
 
-    private List<Festival> concat(List<Festival> a, List<Festival> b) {
-        java.util.ArrayList<Festival> merged = new java.util.ArrayList<>(a);
-        merged.addAll(b);
-        return merged;
+    @Override
+    public List<FestivalResponseDTO> searchFestivals(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("검색어를 입력해주세요.");
+        }
+        int cappedLimit = Math.max(1, Math.min(limit, MAX_SEARCH_LIMIT));
+
+        CatalogSnapshot snapshot = festivalCatalog.snapshot();
+        return festivalSearchIndex.search(query, cappedLimit)
+                .stream()
+                .map(snapshot::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
-    private FestivalResponseDTO convertToDTO(Festival f) {
-        return convertToDTO(f, null);
-    }
-
-    private FestivalResponseDTO convertToDTO(Festival f, Double avgRatingOverride) {
-        List<String> categories = splitCategories(f.getCategories());
-        String primaryCategory = categories.isEmpty() ? null : categories.get(0);
-        Double averageRating = avgRatingOverride != null
-                ? avgRatingOverride
-                : reviewRepository.findAverageRatingByFestival(f.getFestivalId());
-
-        return FestivalResponseDTO.builder()
-                .id(f.getFestivalId())
-                .title(f.getName())
-                .description(f.getDescription())
-                .location(f.getLocation())
-                .categories(categories)
-                .category(primaryCategory)
-                .averageRating(averageRating)
-                .lat(f.getLat())
-                .lng(f.getLng())
-                .imageUrl(f.getImageUrl())
-                .region(f.getRegion())
-                .startDate(f.getStartDate())
-                .endDate(f.getEndDate())
-                .build();
+    private List<FestivalResponseDTO> filterByCategory(CatalogSnapshot snapshot, String category, boolean popular) {
+        long mask = categoryDictionary.maskOf(categoryDictionary.parse(category));
+        return popular ? snapshot.popularByCategoryMask(mask) : snapshot.filterByCategoryMask(mask);
     }
 
-    private List<String> splitCategories(String categories) {
-        if (categories == null || categories.trim().isEmpty() || categories.equals("[]")) {
-            return List.of();
+    private static boolean isPopularSort(String sort) {
+        if (sort == null || sort.isBlank() || SORT_RATING.equals(sort)) {
+            return false;
         }
-        String cleaned = categories.replace("[", "").replace("]", "");
-        return Arrays.stream(cleaned.split(","))
-                .map(String::trim)
-                .filter(s -> !s.isEmpty())
-                .toList();
+        if (SORT_POPULAR.equals(sort)) {
+            return true;
+        }
+        throw new IllegalArgumentException("지원하지 않는 정렬입니다: " + sort);
+    }
+
+    /**
+     * (정렬 키 desc, id asc) 커서 바로 다음 위치를 이진 탐색으로 찾는다.
+     */
+    private int firstAfter(List<FestivalResponseDTO> sorted, ToDoubleFunction<FestivalResponseDTO> sortKey,
+                           double key, long id) {
+        int low = 0;
+        int high = sorted.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            FestivalResponseDTO f = sorted.get(mid);
+            int byKey = Double.compare(sortKey.applyAsDouble(f), key);
+            boolean after = byKey < 0 || (byKey == 0 && f.getId() > id);
+            if (after) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    private FestivalResponseDTO convertToDTO(Festival f) {
+        return festivalMapper.toDTO(f);
     }
 }
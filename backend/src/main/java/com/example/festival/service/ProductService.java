@@ -1,7 +1,12 @@
 package com.example.festival.service;
 
+import com.example.festival.dto.CursorPageDTO;
 import com.example.festival.dto.ProductResponseDTO;
+import com.example.festival.dto.ProductSlotRequestDTO;
+import com.example.festival.dto.SlotAvailabilityDTO;
 import com.example.festival.entity.Product;
+
+import java.time.LocalDate;
 import java.util.List;
 
 public interface ProductService {
@@ -10,6 +15,8 @@ public interface ProductService {
 
     List<ProductResponseDTO> getAllProducts();
 
+    CursorPageDTO<ProductResponseDTO> getProductPage(String cursor, int limit);
+
     ProductResponseDTO getProduct(Long id);
 
     List<ProductResponseDTO> getProductsByFestival(Long festivalId);
@@ -17,4 +24,8 @@ public interface ProductService {
     Product updateProduct(Long id, Product updatedProduct);
 
     void deleteProduct(Long id);
+
+    List<SlotAvailabilityDTO> saveSlots(Long productId, List<ProductSlotRequestDTO> slots);
+
+    List<SlotAvailabilityDTO> getAvailability(Long productId, LocalDate from, LocalDate to);
 }
@@ -1,13 +1,28 @@
 package com.example.festival.service;
 
+import com.example.festival.cache.SlotCapacityLedger;
+import com.example.festival.dto.CursorPageDTO;
 import com.example.festival.dto.ProductResponseDTO;
+import com.example.festival.dto.ProductSlotRequestDTO;
+import com.example.festival.dto.SlotAvailabilityDTO;
 import com.example.festival.entity.Festival;
 import com.example.festival.entity.Product;
+import com.example.festival.entity.ProductSlot;
+import com.example.festival.event.ProductChangedEvent;
 import com.example.festival.repository.FestivalRepository;
 import com.example.festival.repository.ProductRepository;
+import com.example.festival.repository.ProductSlotRepository;
+import com.example.festival.repository.ReservationRepository;
+import com.example.festival.support.Cursors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -17,12 +32,18 @@ public class ProductServiceImpl implements ProductService {
 
     private final ProductRepository productRepository;
     private final FestivalRepository festivalRepository;
+    private final ProductSlotRepository productSlotRepository;
+    private final ReservationRepository reservationRepository;
+    private final SlotCapacityLedger slotCapacityLedger;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Product createProduct(Product product) {
         Festival festival = resolveFestival(product.getFestival());
         product.setFestival(festival);
-        return productRepository.save(product);
+        Product saved = productRepository.save(product);
+        eventPublisher.publishEvent(new ProductChangedEvent(saved.getProductId(), festival.getFestivalId()));
+        return saved;
     }
 
     @Override
@@ -33,6 +54,17 @@ public class ProductServiceImpl implements ProductService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public CursorPageDTO<ProductResponseDTO> getProductPage(String cursor, int limit) {
+        int size = Cursors.clampLimit(limit);
+        List<ProductResponseDTO> fetched = productRepository
+                .findByProductIdGreaterThanOrderByProductIdAsc(Cursors.decodeLong(cursor, 0L), Limit.of(size + 1))
+                .stream()
+                .map(this::convertToDTO)
+                .toList();
+        return CursorPageDTO.of(fetched, size, p -> Cursors.encode(p.getProductId()));
+    }
+
     @Override
     public ProductResponseDTO getProduct(Long id) {
         Product product = productRepository.findById(id)
@@ -54,6 +86,7 @@ public class ProductServiceImpl implements ProductService {
                 .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다."));
 
         Festival festival = resolveFestival(updatedProduct.getFestival());
+        Long previousFestivalId = exist.getFestival().getFestivalId();
 
         exist.setFestival(festival);
         exist.setName(updatedProduct.getName());
@@ -64,12 +97,82 @@ public class ProductServiceImpl implements ProductService {
         exist.setImageUrl(updatedProduct.getImageUrl());
         exist.setDescription(updatedProduct.getDescription());
 
-        return productRepository.save(exist);
+        Product saved = productRepository.save(exist);
+        eventPublisher.publishEvent(new ProductChangedEvent(id, festival.getFestivalId()));
+        if (!previousFestivalId.equals(festival.getFestivalId())) {
+            eventPublisher.publishEvent(new ProductChangedEvent(id, previousFestivalId));
+        }
+        return saved;
     }
 
     @Override
+    @Transactional
     public void deleteProduct(Long id) {
+        Long festivalId = productRepository.findById(id)
+                .map(p -> p.getFestival().getFestivalId())
+                .orElse(null);
+        productSlotRepository.deleteByProduct_ProductId(id);
         productRepository.deleteById(id);
+        slotCapacityLedger.evictAfterCommit(id);
+        eventPublisher.publishEvent(new ProductChangedEvent(id, festivalId));
+    }
+
+    /**
+     * 날짜 x 시간대별 수용 인원을 등록/수정한다. 새 슬롯의 점유 인원은 이미 받은 예약에서 채운다.
+     */
+    @Override
+    @Transactional
+    public List<SlotAvailabilityDTO> saveSlots(Long productId, List<ProductSlotRequestDTO> requests) {
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다."));
+
+        List<SlotAvailabilityDTO> result = new ArrayList<>(requests.size());
+        for (ProductSlotRequestDTO request : requests) {
+            if (request.getCapacity() < 0) {
+                throw new IllegalArgumentException("수용 인원은 0 이상이어야 합니다.");
+            }
+            LocalDate date = LocalDate.parse(request.getDate());
+            LocalTime time = LocalTime.parse(request.getTime());
+
+            ProductSlot slot = productSlotRepository
+                    .findByProduct_ProductIdAndSlotDateAndSlotTime(productId, date, time)
+                    .orElseGet(() -> ProductSlot.builder()
+                            .product(product)
+                            .slotDate(date)
+                            .slotTime(time)
+                            .reserved((int) reservationRepository.sumHeadCountBySlot(productId, date, time))
+                            .build());
+
+            if (request.getCapacity() < slot.getReserved()) {
+                throw new IllegalArgumentException("수용 인원을 이미 예약된 인원보다 적게 설정할 수 없습니다.");
+            }
+            slot.setCapacity(request.getCapacity());
+            result.add(toAvailability(productSlotRepository.save(slot)));
+        }
+
+        slotCapacityLedger.evictAfterCommit(productId);
+        return result;
+    }
+
+    @Override
+    public List<SlotAvailabilityDTO> getAvailability(Long productId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("시작일은 종료일보다 늦을 수 없습니다.");
+        }
+        if (!productRepository.existsById(productId)) {
+            throw new IllegalArgumentException("상품을 찾을 수 없습니다.");
+        }
+        return slotCapacityLedger.availability(productId, from, to);
+    }
+
+    private SlotAvailabilityDTO toAvailability(ProductSlot slot) {
+        return SlotAvailabilityDTO.builder()
+                .date(slot.getSlotDate().toString())
+                .time(slot.getSlotTime().toString())
+                .capacity(slot.getCapacity())
+                .reserved(slot.getReserved())
+                .remaining(Math.max(0, slot.getCapacity() - slot.getReserved()))
+                .build();
     }
 
     private ProductResponseDTO convertToDTO(Product product) {
@@ -0,0 +1,198 @@
+package com.example.festival.service;
+
+import com.example.festival.dto.PendingReservationDTO;
+import com.example.festival.dto.ReservationBatchResultDTO;
+import com.example.festival.dto.ReservationRequestDTO;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 예약 접수 큐.
+ *
+ * 요청은 형식만 검사한 뒤 고정 크기 큐에 넣고 바로 대기 번호(ticket)를 돌려준다.
+ * 전용 스레드가 큐를 batch-size 건씩(최대 linger-ms 만큼 모아서) 꺼내
+ * createReservations 한 트랜잭션으로 함께 커밋하고, 결과는 result-ttl 동안 ticket 으로 조회할 수 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationIntakeQueue {
+
+    private final ReservationService reservationService;
+
+    @Value("${festival.intake.capacity:10000}")
+    private int capacity;
+
+    @Value("${festival.intake.batch-size:200}")
+    private int batchSize;
+
+    @Value("${festival.intake.linger-ms:20}")
+    private long lingerMillis;
+
+    @Value("${festival.intake.result-ttl:PT10M}")
+    private Duration resultTtl;
+
+    private BlockingQueue<Pending> queue;
+    private final Map<String, Outcome> outcomes = new ConcurrentHashMap<>();
+    private Thread consumer;
+    private volatile boolean running = true;
+
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(capacity);
+        consumer = new Thread(this::consume, "reservation-intake");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    public PendingReservationDTO submit(ReservationRequestDTO dto) {
+        validate(dto);
+        String ticket = UUID.randomUUID().toString();
+        Outcome pending = Outcome.pending();
+        outcomes.put(ticket, pending);
+        if (!queue.offer(new Pending(ticket, dto))) {
+            outcomes.remove(ticket);
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "예약 접수가 밀려 있습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        return pending.toDTO(ticket);
+    }
+
+    public PendingReservationDTO status(String ticket) {
+        Outcome outcome = outcomes.get(ticket);
+        if (outcome == null) {
+            return PendingReservationDTO.builder()
+                    .ticket(ticket)
+                    .status("UNKNOWN")
+                    .build();
+        }
+        return outcome.toDTO(ticket);
+    }
+
+    @Scheduled(fixedDelayString = "${festival.intake.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long cutoff = System.currentTimeMillis() - resultTtl.toMillis();
+        outcomes.values().removeIf(o -> o.completedAt != 0 && o.completedAt < cutoff);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        consumer.interrupt();
+        consumer.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    private void consume() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Pending first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+                while (batch.size() < batchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    Pending next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // 종료 중: 이미 꺼낸 건과 남은 건은 아래에서 마저 처리한다
+                queue.drainTo(batch, batchSize - batch.size());
+            }
+            if (!batch.isEmpty()) {
+                commit(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void commit(List<Pending> batch) {
+        List<ReservationRequestDTO> requests = new ArrayList<>(batch.size());
+        for (Pending pending : batch) {
+            requests.add(pending.request());
+        }
+        try {
+            List<ReservationBatchResultDTO> results = reservationService.createReservations(requests);
+            for (ReservationBatchResultDTO result : results) {
+                Pending pending = batch.get(result.getIndex());
+                outcomes.put(pending.ticket(), result.isSuccess()
+                        ? Outcome.confirmed(result)
+                        : Outcome.failed(result.getMessage()));
+            }
+        } catch (RuntimeException e) {
+            log.warn("비동기 예약 {}건 일괄 처리 실패", batch.size(), e);
+            for (Pending pending : batch) {
+                outcomes.put(pending.ticket(), Outcome.failed("예약 처리 중 오류가 발생했습니다. 다시 시도해 주세요."));
+            }
+        }
+    }
+
+    private static void validate(ReservationRequestDTO dto) {
+        if (dto.getUserId() == null || dto.getFestivalId() == null || dto.getProductId() == null) {
+            throw new IllegalArgumentException("사용자/축제/상품 정보가 필요합니다.");
+        }
+        if (dto.getHeadCount() <= 0) {
+            throw new IllegalArgumentException("인원수는 1명 이상이어야 합니다.");
+        }
+        if (dto.getDate() == null || dto.getTime() == null) {
+            throw new IllegalArgumentException("날짜/시간 형식이 올바르지 않습니다.");
+        }
+        try {
+            LocalDate.parse(dto.getDate());
+            LocalTime.parse(dto.getTime());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("날짜/시간 형식이 올바르지 않습니다.");
+        }
+    }
+
+    private record Pending(String ticket, ReservationRequestDTO request) {
+    }
+
+    private record Outcome(String status, ReservationBatchResultDTO result, String message, long completedAt) {
+
+        static Outcome pending() {
+            return new Outcome("PENDING", null, null, 0);
+        }
+
+        static Outcome confirmed(ReservationBatchResultDTO result) {
+            return new Outcome("CONFIRMED", result, null, System.currentTimeMillis());
+        }
+
+        static Outcome failed(String message) {
+            return new Outcome("FAILED", null, message, System.currentTimeMillis());
+        }
+
+        PendingReservationDTO toDTO(String ticket) {
+            return PendingReservationDTO.builder()
+                    .ticket(ticket)
+                    .status(status)
+                    .reservation(result != null ? result.getReservation() : null)
+                    .message(message)
+                    .build();
+        }
+    }
+}
@@ -1,17 +1,27 @@
 package com.example.festival.service;
 
+import com.example.festival.dto.CheckInBatchResultDTO;
+import com.example.festival.dto.CursorPageDTO;
+import com.example.festival.dto.ReservationBatchResultDTO;
 import com.example.festival.dto.ReservationRequestDTO;
 import com.example.festival.dto.ReservationResponseDTO;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 public interface ReservationService {
     ReservationResponseDTO createReservation(ReservationRequestDTO dto);
 
     /**
-     * 사용자 예약 목록 조회
+     * 여러 건 예약. 항목별로 성공/실패를 돌려주며 실패한 항목이 있어도 나머지는 저장된다.
      */
-    List<ReservationResponseDTO> getReservationsByUser(Long userId);
+    List<ReservationBatchResultDTO> createReservations(List<ReservationRequestDTO> dtos);
+
+    /**
+     * 사용자 예약 목록 조회. includeHistory 면 보관된 지난 예약까지 포함한다.
+     */
+    List<ReservationResponseDTO> getReservationsByUser(Long userId, boolean includeHistory);
 
     /**
      * 사용자 예약 건수 조회
@@ -23,15 +33,30 @@ public interface ReservationService {
      */
     ReservationResponseDTO markAttended(Long reservationId);
 
+    /**
+     * 현장에서 스캔한 체크인 토큰들을 검증해 한 번의 UPDATE 로 참석 처리
+     */
+    CheckInBatchResultDTO markAttendedByTokens(List<String> tokens);
+
     /**
      * 사용자 예약 취소
      */
     ReservationResponseDTO cancelReservation(Long userId, Long reservationId);
 
     /**
-     * 관리자: 모든 예약 조회
+     * 관리자: 모든 예약 조회. includeHistory 면 보관된 지난 예약까지 포함한다.
+     */
+    List<ReservationResponseDTO> getAllReservations(boolean includeHistory);
+
+    /**
+     * 관리자: 모든 예약을 JSON 배열로 out 에 스트리밍
+     */
+    void exportAllReservations(OutputStream out) throws IOException;
+
+    /**
+     * 관리자: 예약 커서 페이지 조회
      */
-    List<ReservationResponseDTO> getAllReservations();
+    CursorPageDTO<ReservationResponseDTO> getReservationPage(String cursor, int limit);
 
     /**
      * 관리자: 예약 삭제
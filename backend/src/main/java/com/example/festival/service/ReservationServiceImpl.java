@@ -1,37 +1,90 @@
 package com.example.festival.service;
 
+import com.example.festival.cache.PopularityCounters;
+import com.example.festival.cache.ReviewEligibilityIndex;
+import com.example.festival.cache.SlotCapacityLedger;
+import com.example.festival.dto.CheckInBatchResultDTO;
+import com.example.festival.dto.CursorPageDTO;
+import com.example.festival.dto.ReservationBatchResultDTO;
 import com.example.festival.dto.ProductSummaryDTO;
 import com.example.festival.dto.ReservationRequestDTO;
 import com.example.festival.dto.ReservationResponseDTO;
+import com.example.festival.dto.UserStatsDTO;
 import com.example.festival.entity.Festival;
 import com.example.festival.entity.Product;
 import com.example.festival.entity.Reservation;
 import com.example.festival.entity.User;
+import com.example.festival.event.ProductChangedEvent;
+import com.example.festival.event.ReservationChangedEvent;
 import com.example.festival.repository.FestivalRepository;
 import com.example.festival.repository.ProductRepository;
+import com.example.festival.repository.ProductSlotRepository;
+import com.example.festival.repository.ReservationArchiveRepository;
 import com.example.festival.repository.ReservationRepository;
 import com.example.festival.repository.UserRepository;
+import com.example.festival.support.CheckInTokenSigner;
+import com.example.festival.support.Cursors;
+import com.example.festival.support.JsonArrayExporter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class ReservationServiceImpl implements ReservationService {
 
+    private static final int MAX_BATCH_SIZE = 1000;
+    private static final int MAX_CHECK_IN_BATCH_SIZE = 10000;
+    private static final Set<Reservation.Status> UNUSED_STATUSES =
+            EnumSet.of(Reservation.Status.ACTIVE, Reservation.Status.RESERVED);
+
     private final ReservationRepository reservationRepository;
+    private final ReservationArchiveRepository reservationArchiveRepository;
     private final UserRepository userRepository;
     private final FestivalRepository festivalRepository;
     private final ProductRepository productRepository;
+    private final ProductSlotRepository productSlotRepository;
+    private final SlotCapacityLedger slotCapacityLedger;
+    private final ReviewEligibilityIndex reviewEligibilityIndex;
+    private final PopularityCounters popularityCounters;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JsonArrayExporter jsonArrayExporter;
+    private final CheckInTokenSigner checkInTokenSigner;
+    private final UserStatsService userStatsService;
 
     @Override
+    @Transactional
     public ReservationResponseDTO createReservation(ReservationRequestDTO dto) {
 
+        if (dto.getHeadCount() <= 0) {
+            throw new IllegalArgumentException("인원수는 1명 이상이어야 합니다.");
+        }
+
         User user = userRepository.findById(dto.getUserId())
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
 
@@ -40,6 +93,10 @@ public class ReservationServiceImpl implements ReservationService {
 
         Product product = productRepository.findById(dto.getProductId())
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 상품입니다."));
+        // 입장 대기열은 요청의 festivalId 로 줄을 세우므로, 다른 축제 id 로 대기열을 건너뛰지 못하게 한다
+        if (!product.getFestival().getFestivalId().equals(festival.getFestivalId())) {
+            throw new IllegalArgumentException("해당 축제의 상품이 아닙니다.");
+        }
 
         Reservation reservation = Reservation.builder()
                 .user(user)
@@ -53,63 +110,469 @@ public class ReservationServiceImpl implements ReservationService {
                 .status(Reservation.Status.RESERVED)
                 .build();
 
+        // insert 의 외래 키 검사가 상품 행에 공유 잠금을 걸기 전에 배타 잠금부터 잡는다.
+        // 순서가 반대면 같은 상품을 동시에 예약하는 두 트랜잭션이 서로의 공유 잠금을 기다리며 교착된다
+        takeStock(product, dto.getHeadCount());
         Reservation saved = reservationRepository.save(reservation);
+        takeSlot(saved);
+        userStatsService.reservationChanged(user.getUserId(), null, saved.getStatus());
+        applyReservationCounts(saved, null, saved.getStatus());
+        publishChanged(saved);
 
         return buildResponse(saved);
     }
 
+    /**
+     * 사용자/축제/상품은 종류별로 IN 조회 한 번씩, 재고는 상품별로 합산해 한 번에 차감하고,
+     * insert 는 JDBC 배치로 보낸다. 재고나 잔여석이 모자란 항목만 실패로 표시한다.
+     */
+    @Override
+    @Transactional
+    public List<ReservationBatchResultDTO> createReservations(List<ReservationRequestDTO> dtos) {
+        if (dtos == null || dtos.isEmpty()) {
+            throw new IllegalArgumentException("예약 항목이 비어 있습니다.");
+        }
+        if (dtos.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_BATCH_SIZE + "건까지 예약할 수 있습니다.");
+        }
+
+        Map<Long, User> users = loadAll(dtos, ReservationRequestDTO::getUserId,
+                ids -> userRepository.findAllById(ids), User::getUserId);
+        Map<Long, Festival> festivals = loadAll(dtos, ReservationRequestDTO::getFestivalId,
+                ids -> festivalRepository.findAllById(ids), Festival::getFestivalId);
+        Map<Long, Product> products = loadAll(dtos, ReservationRequestDTO::getProductId,
+                ids -> productRepository.findAllById(ids), Product::getProductId);
+
+        ReservationBatchResultDTO[] results = new ReservationBatchResultDTO[dtos.size()];
+        Map<Integer, Reservation> pending = new LinkedHashMap<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int i = 0; i < dtos.size(); i++) {
+            ReservationRequestDTO dto = dtos.get(i);
+            String error = validate(dto, users, festivals, products);
+            if (error != null) {
+                results[i] = failure(i, error);
+                continue;
+            }
+            try {
+                pending.put(i, Reservation.builder()
+                        .user(users.get(dto.getUserId()))
+                        .festival(festivals.get(dto.getFestivalId()))
+                        .product(products.get(dto.getProductId()))
+                        .discountRate(dto.getDiscountRate())
+                        .reservationDate(now)
+                        .date(LocalDate.parse(dto.getDate()))
+                        .time(LocalTime.parse(dto.getTime()))
+                        .headCount(dto.getHeadCount())
+                        .status(Reservation.Status.RESERVED)
+                        .build());
+            } catch (DateTimeParseException e) {
+                results[i] = failure(i, "날짜/시간 형식이 올바르지 않습니다.");
+            }
+        }
+
+        takeStockForBatch(pending, results);
+        takeSlotsForBatch(pending, results);
+
+        List<Reservation> saved = reservationRepository.saveAll(pending.values());
+        int cursor = 0;
+        Set<Product> touchedProducts = new HashSet<>();
+        Map<Long, Integer> createdByUser = new HashMap<>();
+        for (Integer index : pending.keySet()) {
+            Reservation reservation = saved.get(cursor++);
+            touchedProducts.add(reservation.getProduct());
+            createdByUser.merge(reservation.getUser().getUserId(), 1, Integer::sum);
+            applyReservationCounts(reservation, null, reservation.getStatus());
+            publishChanged(reservation);
+            results[index] = ReservationBatchResultDTO.builder()
+                    .index(index)
+                    .success(true)
+                    .reservation(buildResponse(reservation))
+                    .build();
+        }
+        touchedProducts.forEach(this::publishProductChanged);
+        createdByUser.forEach((userId, count) ->
+                userStatsService.reservationsChanged(userId, count, null, Reservation.Status.RESERVED));
+
+        return List.of(results);
+    }
+
     @Override
-    public List<ReservationResponseDTO> getReservationsByUser(Long userId) {
-        List<Reservation> reservations = reservationRepository.findByUser_UserId(userId);
-        return reservations.stream()
+    public List<ReservationResponseDTO> getReservationsByUser(Long userId, boolean includeHistory) {
+        List<ReservationRepository.ReservationRow> rows = reservationRepository.findRowsByUser(userId);
+        if (includeHistory) {
+            rows = merge(reservationArchiveRepository.findRowsByUser(userId), rows);
+        }
+        return rows.stream()
                 .map(this::buildResponse)
                 .collect(Collectors.toList());
     }
 
     @Override
     public long countReservationsByUser(Long userId) {
-        return reservationRepository.countByUser_UserIdAndStatusNot(userId, Reservation.Status.CANCELLED);
+        UserStatsDTO stats = userStatsService.get(userId);
+        return stats.getActiveReservations() + stats.getAttendedReservations();
     }
 
     @Override
+    @Transactional
     public ReservationResponseDTO markAttended(Long reservationId) {
         Reservation reservation = reservationRepository.findById(reservationId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 예약입니다."));
 
+        Reservation.Status before = reservation.getStatus();
         reservation.setStatus(Reservation.Status.ATTENDED);
         Reservation saved = reservationRepository.save(reservation);
+        userStatsService.reservationChanged(saved.getUser().getUserId(), before, saved.getStatus());
+        applyReservationCounts(saved, before, saved.getStatus());
+        publishChanged(saved);
 
         return buildResponse(saved);
     }
 
+    /**
+     * 토큰은 서명만 검증하고(DB 조회 없음), 유효한 예약 id 들을 잠근 뒤 한 번의 UPDATE 로 ATTENDED 로 바꾼다.
+     */
     @Override
+    @Transactional
+    public CheckInBatchResultDTO markAttendedByTokens(List<String> tokens) {
+        if (tokens == null || tokens.isEmpty()) {
+            throw new IllegalArgumentException("체크인 토큰이 비어 있습니다.");
+        }
+        if (tokens.size() > MAX_CHECK_IN_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_CHECK_IN_BATCH_SIZE + "건까지 처리할 수 있습니다.");
+        }
+
+        List<String> invalid = new ArrayList<>();
+        Set<Long> ids = new LinkedHashSet<>();
+        for (String token : tokens) {
+            checkInTokenSigner.verify(token).ifPresentOrElse(
+                    claims -> ids.add(claims.reservationId()),
+                    () -> invalid.add(token));
+        }
+
+        int updated = 0;
+        List<Long> skipped = new ArrayList<>();
+        if (!ids.isEmpty()) {
+            List<Reservation> targets = reservationRepository.lockCheckInTargets(ids, UNUSED_STATUSES);
+            Set<Long> targetIds = new HashSet<>();
+            targets.forEach(r -> targetIds.add(r.getReservationId()));
+            if (!targetIds.isEmpty()) {
+                updated = reservationRepository.markAttendedIn(targetIds, UNUSED_STATUSES);
+                targets.forEach(this::publishChanged);
+                targets.stream()
+                        .collect(Collectors.groupingBy(r -> r.getUser().getUserId(), Collectors.counting()))
+                        .forEach((userId, count) -> userStatsService.reservationsChanged(
+                                userId, count.intValue(), Reservation.Status.RESERVED, Reservation.Status.ATTENDED));
+            }
+            for (Long id : ids) {
+                if (!targetIds.contains(id)) {
+                    skipped.add(id);
+                }
+            }
+        }
+
+        return CheckInBatchResultDTO.builder()
+                .received(tokens.size())
+                .updated(updated)
+                .invalidTokens(invalid)
+                .skippedReservationIds(skipped)
+                .build();
+    }
+
+    @Override
+    @Transactional
     public ReservationResponseDTO cancelReservation(Long userId, Long reservationId) {
-        Reservation reservation = reservationRepository.findByReservationIdAndUser_UserId(reservationId, userId)
+        // 재고/잔여석 반환이 두 번 일어나지 않도록 행을 잠근 뒤 상태를 본다
+        Reservation reservation = reservationRepository.lockByIdAndUser(reservationId, userId)
                 .orElseThrow(() -> new IllegalArgumentException("본인 예약을 찾을 수 없습니다."));
 
         if (reservation.getStatus() == Reservation.Status.CANCELLED) {
             return buildResponse(reservation);
         }
+        if (reservation.getStatus() == Reservation.Status.ATTENDED) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "이미 입장 처리된 예약은 취소할 수 없습니다.");
+        }
 
+        Reservation.Status before = reservation.getStatus();
+        boolean heldStock = holdsStock(before);
         reservation.setStatus(Reservation.Status.CANCELLED);
         Reservation saved = reservationRepository.save(reservation);
+        userStatsService.reservationChanged(userId, before, saved.getStatus());
+        applyReservationCounts(saved, before, saved.getStatus());
+        if (heldStock) {
+            returnStock(saved.getProduct(), saved.getHeadCount());
+        }
+        releaseSlot(saved);
+        publishChanged(saved);
         return buildResponse(saved);
     }
 
     @Override
-    public List<ReservationResponseDTO> getAllReservations() {
-        return reservationRepository.findAll()
-                .stream()
+    public List<ReservationResponseDTO> getAllReservations(boolean includeHistory) {
+        List<ReservationRepository.ReservationRow> rows = reservationRepository.findAllRows();
+        if (includeHistory) {
+            rows = merge(reservationArchiveRepository.findAllRows(), rows);
+        }
+        return rows.stream()
                 .map(this::buildResponse)
                 .collect(Collectors.toList());
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public void exportAllReservations(OutputStream out) throws IOException {
+        try (Stream<Reservation> rows = reservationRepository.streamAllWithDetails()) {
+            jsonArrayExporter.write(rows, this::buildResponse, out);
+        }
+    }
+
+    @Override
+    public CursorPageDTO<ReservationResponseDTO> getReservationPage(String cursor, int limit) {
+        int size = Cursors.clampLimit(limit);
+        List<ReservationResponseDTO> fetched = reservationRepository
+                .findRowsAfter(Cursors.decodeLong(cursor, 0L), Limit.of(size + 1))
+                .stream()
+                .map(this::buildResponse)
+                .toList();
+        return CursorPageDTO.of(fetched, size, r -> Cursors.encode(r.getReservationId()));
+    }
+
+    @Override
+    @Transactional
     public void deleteReservation(Long reservationId) {
-        if (!reservationRepository.existsById(reservationId)) {
-            throw new IllegalArgumentException("존재하지 않는 예약입니다.");
+        Reservation reservation = reservationRepository.lockById(reservationId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 예약입니다."));
+        reservationRepository.delete(reservation);
+        if (holdsStock(reservation.getStatus())) {
+            returnStock(reservation.getProduct(), reservation.getHeadCount());
+        }
+        if (reservation.getStatus() != Reservation.Status.CANCELLED) {
+            releaseSlot(reservation);
+        }
+        userStatsService.reservationChanged(reservation.getUser().getUserId(), reservation.getStatus(), null);
+        applyReservationCounts(reservation, reservation.getStatus(), null);
+        publishChanged(reservation);
+    }
+
+    private void takeStock(Product product, int quantity) {
+        int updated = productRepository.decrementStock(product.getProductId(), quantity);
+        if (updated == 0) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "재고가 부족합니다.");
+        }
+        publishProductChanged(product);
+    }
+
+    private void returnStock(Product product, int quantity) {
+        productRepository.incrementStock(product.getProductId(), quantity);
+        publishProductChanged(product);
+    }
+
+    private void publishProductChanged(Product product) {
+        eventPublisher.publishEvent(
+                new ProductChangedEvent(product.getProductId(), product.getFestival().getFestivalId()));
+    }
+
+    private void takeSlot(Reservation reservation) {
+        if (!tryTakeSlot(reservation)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "해당 시간대 잔여석이 부족합니다.");
+        }
+    }
+
+    /**
+     * 슬롯이 정의된 시간대면 잔여석을 점유한다. 메모리 카운터로 먼저 거르고 DB 조건부 갱신으로 확정한다.
+     * 슬롯이 없는 시간대는 인원 제한이 없으므로 true.
+     */
+    private boolean tryTakeSlot(Reservation reservation) {
+        Long productId = reservation.getProduct().getProductId();
+        LocalDate date = reservation.getDate();
+        LocalTime time = reservation.getTime();
+        int headCount = reservation.getHeadCount();
+
+        if (!slotCapacityLedger.hasSlot(productId, date, time)) {
+            return true;
+        }
+        if (slotCapacityLedger.remaining(productId, date, time) < headCount
+                || productSlotRepository.reserve(productId, date, time, headCount) == 0) {
+            return false;
+        }
+        slotCapacityLedger.applyAfterCommit(productId, date, time, headCount);
+        return true;
+    }
+
+    /**
+     * 상품별 인원 합계를 한 번에 차감하고, 모자라면 그 상품만 항목 단위로 다시 시도한다.
+     * 상품 행은 productId 오름차순으로 잠가, 동시에 도는 다른 일괄 예약(비동기 접수 포함)과
+     * 잠금 순서가 엇갈려 교착 상태가 되지 않게 한다.
+     */
+    private void takeStockForBatch(Map<Integer, Reservation> pending, ReservationBatchResultDTO[] results) {
+        Map<Long, List<Integer>> indexesByProduct = new TreeMap<>();
+        Map<Long, Integer> totalByProduct = new HashMap<>();
+        pending.forEach((index, reservation) -> {
+            Long productId = reservation.getProduct().getProductId();
+            indexesByProduct.computeIfAbsent(productId, id -> new ArrayList<>()).add(index);
+            totalByProduct.merge(productId, reservation.getHeadCount(), Integer::sum);
+        });
+
+        indexesByProduct.forEach((productId, indexes) -> {
+            if (productRepository.decrementStock(productId, totalByProduct.get(productId)) > 0) {
+                return;
+            }
+            for (Integer index : indexes) {
+                if (productRepository.decrementStock(productId, pending.get(index).getHeadCount()) == 0) {
+                    pending.remove(index);
+                    results[index] = failure(index, "재고가 부족합니다.");
+                }
+            }
+        });
+    }
+
+    /**
+     * 시간대 행은 (productId, date, time) 순으로 잠근다. 상품 행은 takeStockForBatch 에서 이미 잡았다.
+     */
+    private void takeSlotsForBatch(Map<Integer, Reservation> pending, ReservationBatchResultDTO[] results) {
+        List<Map.Entry<Integer, Reservation>> ordered = new ArrayList<>(pending.entrySet());
+        ordered.sort(Comparator
+                .comparing((Map.Entry<Integer, Reservation> e) -> e.getValue().getProduct().getProductId())
+                .thenComparing(e -> e.getValue().getDate())
+                .thenComparing(e -> e.getValue().getTime()));
+
+        Map<Long, Integer> stockToReturn = new TreeMap<>();
+        for (Map.Entry<Integer, Reservation> entry : ordered) {
+            Reservation reservation = entry.getValue();
+            if (tryTakeSlot(reservation)) {
+                continue;
+            }
+            pending.remove(entry.getKey());
+            stockToReturn.merge(reservation.getProduct().getProductId(), reservation.getHeadCount(), Integer::sum);
+            results[entry.getKey()] = failure(entry.getKey(), "해당 시간대 잔여석이 부족합니다.");
         }
-        reservationRepository.deleteById(reservationId);
+        stockToReturn.forEach(productRepository::incrementStock);
+    }
+
+    private static String validate(ReservationRequestDTO dto,
+                                   Map<Long, User> users,
+                                   Map<Long, Festival> festivals,
+                                   Map<Long, Product> products) {
+        if (dto.getHeadCount() <= 0) {
+            return "인원수는 1명 이상이어야 합니다.";
+        }
+        if (!users.containsKey(dto.getUserId())) {
+            return "존재하지 않는 사용자입니다.";
+        }
+        if (!festivals.containsKey(dto.getFestivalId())) {
+            return "존재하지 않는 축제입니다.";
+        }
+        if (!products.containsKey(dto.getProductId())) {
+            return "존재하지 않는 상품입니다.";
+        }
+        if (!products.get(dto.getProductId()).getFestival().getFestivalId().equals(dto.getFestivalId())) {
+            return "해당 축제의 상품이 아닙니다.";
+        }
+        if (dto.getDate() == null || dto.getTime() == null) {
+            return "날짜/시간 형식이 올바르지 않습니다.";
+        }
+        return null;
+    }
+
+    private static <E> Map<Long, E> loadAll(List<ReservationRequestDTO> dtos,
+                                            Function<ReservationRequestDTO, Long> idOf,
+                                            Function<Set<Long>, List<E>> finder,
+                                            Function<E, Long> keyOf) {
+        Set<Long> ids = new HashSet<>();
+        for (ReservationRequestDTO dto : dtos) {
+            Long id = idOf.apply(dto);
+            if (id != null) {
+                ids.add(id);
+            }
+        }
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return finder.apply(ids).stream().collect(Collectors.toMap(keyOf, Function.identity()));
+    }
+
+    /**
+     * 보관은 예약일 기준이라 id 순서와 일치하지 않으므로 합친 뒤 다시 정렬한다.
+     */
+    private static List<ReservationRepository.ReservationRow> merge(
+            List<ReservationRepository.ReservationRow> archived,
+            List<ReservationRepository.ReservationRow> current) {
+        List<ReservationRepository.ReservationRow> merged = new ArrayList<>(archived.size() + current.size());
+        merged.addAll(archived);
+        merged.addAll(current);
+        merged.sort(Comparator.comparing(ReservationRepository.ReservationRow::getReservationId));
+        return merged;
+    }
+
+    private static ReservationBatchResultDTO failure(int index, String message) {
+        return ReservationBatchResultDTO.builder()
+                .index(index)
+                .success(false)
+                .message(message)
+                .build();
+    }
+
+    /** 취소되지 않은 예약은 참석 여부와 관계없이 좌석을 점유하고 있다 */
+    private void releaseSlot(Reservation reservation) {
+        Long productId = reservation.getProduct().getProductId();
+        int released = productSlotRepository.release(
+                productId, reservation.getDate(), reservation.getTime(), reservation.getHeadCount());
+        if (released > 0) {
+            slotCapacityLedger.applyAfterCommit(
+                    productId, reservation.getDate(), reservation.getTime(), -reservation.getHeadCount());
+        }
+    }
+
+    /** 아직 사용되지 않은 예약만 재고를 점유한다 */
+    private boolean holdsStock(Reservation.Status status) {
+        return status == Reservation.Status.ACTIVE || status == Reservation.Status.RESERVED;
+    }
+
+    /**
+     * 리뷰 작성 자격 인덱스와 축제 인기 집계(예약 인원)에 상태 변경분을 반영한다.
+     * before / after 가 null 이면 각각 생성 / 삭제.
+     */
+    private void applyReservationCounts(Reservation reservation, Reservation.Status before, Reservation.Status after) {
+        Long festivalId = reservation.getFestival().getFestivalId();
+        reviewEligibilityIndex.reservationChanged(reservation.getUser().getUserId(), festivalId, before, after);
+        int delta = notCancelled(after) - notCancelled(before);
+        popularityCounters.headCountChanged(festivalId, delta * reservation.getHeadCount());
+    }
+
+    private static int notCancelled(Reservation.Status status) {
+        return status != null && status != Reservation.Status.CANCELLED ? 1 : 0;
+    }
+
+    private void publishChanged(Reservation reservation) {
+        eventPublisher.publishEvent(new ReservationChangedEvent(
+                reservation.getReservationId(),
+                reservation.getUser().getUserId(),
+                reservation.getFestival().getFestivalId()));
+    }
+
+    private ReservationResponseDTO buildResponse(ReservationRepository.ReservationRow row) {
+        return ReservationResponseDTO.builder()
+                .reservationId(row.getReservationId())
+                .userId(row.getUserId())
+                .festivalId(row.getFestivalId())
+                .productId(row.getProductId())
+                .discountRate(row.getDiscountRate())
+                .reservationDate(row.getReservationDate() != null ? row.getReservationDate().toString() : null)
+                .festivalName(row.getFestivalName())
+                .productName(row.getProductName())
+                .date(row.getDate().toString())
+                .time(row.getTime().toString())
+                .headCount(row.getHeadCount())
+                .status(row.getStatus().name())
+                .product(ProductSummaryDTO.builder()
+                        .productId(row.getProductId())
+                        .name(row.getProductName())
+                        .imageUrl(row.getProductImageUrl())
+                        .festivalId(row.getProductFestivalId())
+                        .build())
+                .checkInToken(checkInToken(row.getReservationId(), row.getFestivalId(), row.getDate(), row.getStatus()))
+                .build();
     }
 
     private ReservationResponseDTO buildResponse(Reservation reservation) {
@@ -140,6 +603,17 @@ public class ReservationServiceImpl implements ReservationService {
                 .headCount(reservation.getHeadCount())
                 .status(reservation.getStatus().name())
                 .product(productSummary)
+                .checkInToken(checkInToken(reservation.getReservationId(),
+                        festival != null ? festival.getFestivalId() : null,
+                        reservation.getDate(),
+                        reservation.getStatus()))
                 .build();
     }
+
+    private String checkInToken(Long reservationId, Long festivalId, LocalDate date, Reservation.Status status) {
+        if (reservationId == null || festivalId == null || status == Reservation.Status.CANCELLED) {
+            return null;
+        }
+        return checkInTokenSigner.sign(reservationId, festivalId, date);
+    }
 }
@@ -1,8 +1,11 @@
 package com.example.festival.service;
 
+import com.example.festival.dto.CursorPageDTO;
 import com.example.festival.dto.ReviewRequestDTO;
 import com.example.festival.dto.ReviewResponseDTO;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 public interface ReviewService {
@@ -17,9 +20,15 @@ public interface ReviewService {
 
     List<ReviewResponseDTO> getReviewsByFestival(Long festivalId);
 
+    CursorPageDTO<ReviewResponseDTO> getReviewPageByFestival(Long festivalId, String cursor, int limit);
+
     List<ReviewResponseDTO> getReviewsByUser(Long userId);
 
     List<ReviewResponseDTO> getAllReviews();
 
+    void exportAllReviews(OutputStream out) throws IOException;
+
+    CursorPageDTO<ReviewResponseDTO> getReviewPage(String cursor, int limit);
+
     boolean hasUserReservedFestival(Long userId, Long festivalId);
 }
@@ -1,28 +1,52 @@
 package com.example.festival.service;
 
+import com.example.festival.cache.RatingHistogramCache;
+import com.example.festival.cache.ReviewEligibilityIndex;
+import com.example.festival.cache.ReviewKeywordIndex;
+import com.example.festival.dto.CursorPageDTO;
 import com.example.festival.dto.ReviewRequestDTO;
 import com.example.festival.dto.ReviewResponseDTO;
-import com.example.festival.entity.Reservation;
 import com.example.festival.entity.Review;
-import com.example.festival.repository.ReservationRepository;
+import com.example.festival.event.ReviewChangedEvent;
+import com.example.festival.repository.FestivalRatingBucketRepository;
+import com.example.festival.repository.FestivalRepository;
 import com.example.festival.repository.ReviewRepository;
+import com.example.festival.repository.UserRepository;
+import com.example.festival.support.Cursors;
+import com.example.festival.support.JsonArrayExporter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class ReviewServiceImpl implements ReviewService {
 
     private final ReviewRepository reviewRepository;
-    private final ReservationRepository reservationRepository;
+    private final UserRepository userRepository;
+    private final ReviewEligibilityIndex reviewEligibilityIndex;
+    private final ReviewKeywordIndex reviewKeywordIndex;
+    private final FestivalRepository festivalRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JsonArrayExporter jsonArrayExporter;
+    private final UserStatsService userStatsService;
+    private final FestivalRatingBucketRepository festivalRatingBucketRepository;
+    private final RatingHistogramCache ratingHistogramCache;
 
     @Override
+    @Transactional
     public ReviewResponseDTO createReview(ReviewRequestDTO dto) {
 
         if (!hasUserReservedFestival(dto.getUserId(), dto.getFestivalId())) {
@@ -32,36 +56,34 @@ public class ReviewServiceImpl implements ReviewService {
             );
         }
 
-        boolean existReview =
-                reviewRepository.findByUser_UserIdAndFestival_FestivalId(dto.getUserId(), dto.getFestivalId()).isPresent();
-
-        if (existReview) {
-            throw new ResponseStatusException(
-                    HttpStatus.BAD_REQUEST,
-                    "이미 작성된 리뷰가 존재합니다."
-            );
-        }
-
-        Reservation reservation = reservationRepository
-                .findByUser_UserIdAndProduct_Festival_FestivalId(dto.getUserId(), dto.getFestivalId())
-                .stream()
-                .findFirst()
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.FORBIDDEN, "예약 정보를 찾을 수 없습니다."));
-
         Review review = Review.builder()
                 .rating(dto.getRating())
                 .content(dto.getContent())
                 .reviewDate(LocalDateTime.now())
                 .lastModified(LocalDateTime.now())
-                .user(reservation.getUser())
-                .festival(reservation.getFestival())
+                .user(userRepository.getReferenceById(dto.getUserId()))
+                .festival(festivalRepository.getReferenceById(dto.getFestivalId()))
                 .build();
 
-        Review saved = reviewRepository.save(review);
+        // 중복 여부는 (user_id, festival_id) 유니크 제약에 맡긴다
+        Review saved;
+        try {
+            saved = reviewRepository.saveAndFlush(review);
+        } catch (DataIntegrityViolationException e) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "이미 작성된 리뷰가 존재합니다."
+            );
+        }
+        applyRatingChange(dto.getFestivalId(), null, saved.getRating());
+        userStatsService.reviewCountChanged(dto.getUserId(), 1);
+        reviewKeywordIndex.reviewChanged(dto.getFestivalId(), null, null, saved.getContent(), saved.getLastModified());
+        eventPublisher.publishEvent(new ReviewChangedEvent(dto.getFestivalId(), dto.getUserId()));
         return convertToDTO(saved);
     }
 
     @Override
+    @Transactional
     public ReviewResponseDTO updateReview(Long id, ReviewRequestDTO dto, Long userId) {
 
         Review origin = reviewRepository.findById(id)
@@ -71,15 +93,23 @@ public class ReviewServiceImpl implements ReviewService {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "본인 리뷰만 수정 가능합니다.");
         }
 
+        Double previousRating = origin.getRating();
+        String previousContent = origin.getContent();
+        LocalDateTime previousModified = origin.getLastModified();
         origin.setRating(dto.getRating());
         origin.setContent(dto.getContent());
         origin.setLastModified(LocalDateTime.now());
 
         Review saved = reviewRepository.save(origin);
+        applyRatingChange(saved.getFestival().getFestivalId(), previousRating, saved.getRating());
+        reviewKeywordIndex.reviewChanged(saved.getFestival().getFestivalId(),
+                previousContent, previousModified, saved.getContent(), saved.getLastModified());
+        eventPublisher.publishEvent(new ReviewChangedEvent(saved.getFestival().getFestivalId(), userId));
         return convertToDTO(saved);
     }
 
     @Override
+    @Transactional
     public void deleteReview(Long id, Long userId) {
 
         Review review = reviewRepository.findById(id)
@@ -90,26 +120,48 @@ public class ReviewServiceImpl implements ReviewService {
         }
 
         reviewRepository.deleteById(id);
+        applyRatingChange(review.getFestival().getFestivalId(), review.getRating(), null);
+        userStatsService.reviewCountChanged(userId, -1);
+        reviewKeywordIndex.reviewChanged(review.getFestival().getFestivalId(),
+                review.getContent(), review.getLastModified(), null, null);
+        eventPublisher.publishEvent(new ReviewChangedEvent(review.getFestival().getFestivalId(), userId));
     }
 
     @Override
+    @Transactional
     public void deleteReview(Long id) {
-        if (!reviewRepository.existsById(id)) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "리뷰를 찾을 수 없습니다.");
-        }
+        Review review = reviewRepository.findById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "리뷰를 찾을 수 없습니다."));
         reviewRepository.deleteById(id);
+        applyRatingChange(review.getFestival().getFestivalId(), review.getRating(), null);
+        userStatsService.reviewCountChanged(review.getUser().getUserId(), -1);
+        reviewKeywordIndex.reviewChanged(review.getFestival().getFestivalId(),
+                review.getContent(), review.getLastModified(), null, null);
+        eventPublisher.publishEvent(
+                new ReviewChangedEvent(review.getFestival().getFestivalId(), review.getUser().getUserId()));
     }
 
     @Override
     public List<ReviewResponseDTO> getReviewsByFestival(Long festivalId) {
-        return reviewRepository.findByFestival_FestivalId(festivalId)
+        return reviewRepository.findRowsByFestival(festivalId)
                 .stream().map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public CursorPageDTO<ReviewResponseDTO> getReviewPageByFestival(Long festivalId, String cursor, int limit) {
+        int size = Cursors.clampLimit(limit);
+        List<ReviewResponseDTO> fetched = reviewRepository
+                .findRowsByFestivalAfter(festivalId, Cursors.decodeLong(cursor, 0L), Limit.of(size + 1))
+                .stream()
+                .map(this::convertToDTO)
+                .toList();
+        return CursorPageDTO.of(fetched, size, r -> Cursors.encode(r.getReviewId()));
+    }
+
     @Override
     public List<ReviewResponseDTO> getReviewsByUser(Long userId) {
-        return reviewRepository.findByUser_UserId(userId)
+        return reviewRepository.findRowsByUser(userId)
                 .stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
@@ -117,17 +169,76 @@ public class ReviewServiceImpl implements ReviewService {
 
     @Override
     public List<ReviewResponseDTO> getAllReviews() {
-        return reviewRepository.findAll()
+        return reviewRepository.findAllRows()
                 .stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAllReviews(OutputStream out) throws IOException {
+        try (Stream<Review> rows = reviewRepository.streamAllWithDetails()) {
+            jsonArrayExporter.write(rows, this::convertToDTO, out);
+        }
+    }
+
+    @Override
+    public CursorPageDTO<ReviewResponseDTO> getReviewPage(String cursor, int limit) {
+        int size = Cursors.clampLimit(limit);
+        List<ReviewResponseDTO> fetched = reviewRepository
+                .findRowsAfter(Cursors.decodeLong(cursor, 0L), Limit.of(size + 1))
+                .stream()
+                .map(this::convertToDTO)
+                .toList();
+        return CursorPageDTO.of(fetched, size, r -> Cursors.encode(r.getReviewId()));
+    }
+
     @Override
     public boolean hasUserReservedFestival(Long userId, Long festivalId) {
-        List<Reservation> reservations =
-                reservationRepository.findByUser_UserIdAndProduct_Festival_FestivalId(userId, festivalId);
-        return !reservations.isEmpty();
+        return reviewEligibilityIndex.isEligible(userId, festivalId);
+    }
+
+    /**
+     * 축제 평점 집계(합계/개수/평균)와 별점 분포에 리뷰 평점 변경분을 반영한다.
+     */
+    private void applyRatingChange(Long festivalId, Double before, Double after) {
+        double ratingDelta = (after != null ? after : 0) - (before != null ? before : 0);
+        long countDelta = (after != null ? 1 : 0) - (before != null ? 1 : 0);
+        if (ratingDelta == 0 && countDelta == 0) {
+            return;
+        }
+        festivalRepository.applyRatingDelta(festivalId, ratingDelta, countDelta);
+
+        int beforeBucket = RatingHistogramCache.halfStars(before);
+        int afterBucket = RatingHistogramCache.halfStars(after);
+        if (beforeBucket == afterBucket) {
+            return;
+        }
+        applyBucketDelta(festivalId, beforeBucket, -1);
+        applyBucketDelta(festivalId, afterBucket, 1);
+    }
+
+    private void applyBucketDelta(Long festivalId, int halfStars, long delta) {
+        if (halfStars == 0) {
+            return;
+        }
+        festivalRatingBucketRepository.applyDelta(festivalId, halfStars, delta);
+        ratingHistogramCache.applyAfterCommit(festivalId, halfStars, delta);
+    }
+
+    private ReviewResponseDTO convertToDTO(ReviewRepository.ReviewRow row) {
+        return ReviewResponseDTO.builder()
+                .reviewId(row.getReviewId())
+                .rating(row.getRating())
+                .content(row.getContent())
+                .reviewDate(row.getReviewDate())
+                .lastModified(row.getLastModified())
+                .userId(row.getUserId())
+                .userName(row.getUserName())
+                .festivalId(row.getFestivalId())
+                .festivalName(row.getFestivalName())
+                .build();
     }
 
     private ReviewResponseDTO convertToDTO(Review review) {
@@ -1,5 +1,6 @@
 package com.example.festival.service;
 
+import com.example.festival.dto.CursorPageDTO;
 import com.example.festival.dto.LoginRequestDTO;
 import com.example.festival.dto.UserRequestDTO;
 import com.example.festival.dto.UserResponseDTO;
@@ -10,6 +11,7 @@ public interface UserService {
     UserResponseDTO signup(UserRequestDTO userRequestDTO);
     UserResponseDTO login(LoginRequestDTO loginRequestDTO);
     List<UserResponseDTO> findAllUsers();
+    CursorPageDTO<UserResponseDTO> findUserPage(String cursor, int limit);
     UserResponseDTO getUser(Long userId);
     UserResponseDTO updateUser(Long userId, UserRequestDTO dto);
 }
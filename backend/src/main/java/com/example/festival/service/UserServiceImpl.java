@@ -1,11 +1,16 @@
 package com.example.festival.service;
 
+import com.example.festival.dto.CursorPageDTO;
 import com.example.festival.dto.LoginRequestDTO;
 import com.example.festival.dto.UserRequestDTO;
 import com.example.festival.dto.UserResponseDTO;
 import com.example.festival.entity.User;
+import com.example.festival.event.UserProfileChangedEvent;
 import com.example.festival.repository.UserRepository;
+import com.example.festival.support.Cursors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
@@ -21,6 +26,7 @@ import java.util.stream.Collectors;
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public UserResponseDTO signup(UserRequestDTO dto) {
@@ -61,6 +67,17 @@ public class UserServiceImpl implements UserService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public CursorPageDTO<UserResponseDTO> findUserPage(String cursor, int limit) {
+        int size = Cursors.clampLimit(limit);
+        List<UserResponseDTO> fetched = userRepository
+                .findByUserIdGreaterThanOrderByUserIdAsc(Cursors.decodeLong(cursor, 0L), Limit.of(size + 1))
+                .stream()
+                .map(this::toResponse)
+                .toList();
+        return CursorPageDTO.of(fetched, size, u -> Cursors.encode(u.getUserId()));
+    }
+
     @Override
     public UserResponseDTO getUser(Long userId) {
         User user = userRepository.findById(userId)
@@ -83,7 +100,9 @@ public class UserServiceImpl implements UserService {
             user.setInterest(joinInterests(dto.getInterests()));
         }
 
-        return toResponse(userRepository.save(user));
+        User saved = userRepository.save(user);
+        eventPublisher.publishEvent(new UserProfileChangedEvent(userId));
+        return toResponse(saved);
     }
 
     private String joinInterests(List<String> interests) {
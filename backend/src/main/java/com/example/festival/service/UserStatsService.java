@@ -0,0 +1,162 @@
+package com.example.festival.service;
+
+import com.example.festival.dto.UserStatsDTO;
+import com.example.festival.entity.Reservation;
+import com.example.festival.entity.UserStats;
+import com.example.festival.repository.UserRepository;
+import com.example.festival.repository.UserStatsRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자 활동 집계(user_stats) 갱신과 조회.
+ *
+ * 쓰기 쪽은 호출하는 서비스의 트랜잭션 안에서 증감분만 반영하고, 커밋되면 해당 사용자의 캐시를 버린다.
+ * 조회는 LRU 캐시 → user_stats → (행이 없으면) 원본 테이블 재계산 순으로 읽는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserStatsService {
+
+    private final UserStatsRepository userStatsRepository;
+    private final UserRepository userRepository;
+
+    @Value("${festival.user-stats.cache-size:10000}")
+    private int cacheSize;
+
+    private Map<Long, UserStatsDTO> cache;
+    // 캐시를 비울 때마다 증가. DB 를 읽는 사이에 무효화가 있었다면 읽은 값을 캐시에 넣지 않는다.
+    private final AtomicLong invalidations = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        int capacity = cacheSize;
+        cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, UserStatsDTO> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    public UserStatsDTO get(Long userId) {
+        long generation = invalidations.get();
+        synchronized (cache) {
+            UserStatsDTO cached = cache.get(userId);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        UserStats stats = userStatsRepository.findById(userId).orElseGet(() -> {
+            if (!userRepository.existsById(userId)) {
+                throw new IllegalArgumentException("존재하지 않는 사용자입니다.");
+            }
+            userStatsRepository.recompute(List.of(userId));
+            return userStatsRepository.findById(userId).orElseThrow();
+        });
+        UserStatsDTO dto = toDTO(stats);
+        synchronized (cache) {
+            if (invalidations.get() == generation) {
+                cache.put(userId, dto);
+            }
+        }
+        return dto;
+    }
+
+    /**
+     * 예약 상태 변경분 반영. before / after 가 null 이면 각각 생성 / 삭제.
+     */
+    public void reservationChanged(Long userId, Reservation.Status before, Reservation.Status after) {
+        reservationsChanged(userId, 1, before, after);
+    }
+
+    public void reservationsChanged(Long userId, int count, Reservation.Status before, Reservation.Status after) {
+        long active = (activeOf(after) - activeOf(before)) * count;
+        long attended = (attendedOf(after) - attendedOf(before)) * count;
+        apply(userId, active, attended, 0, 0);
+    }
+
+    public void reviewCountChanged(Long userId, int delta) {
+        apply(userId, 0, 0, delta, 0);
+    }
+
+    public void wishlistCountChanged(Long userId, int delta) {
+        apply(userId, 0, 0, 0, delta);
+    }
+
+    /**
+     * 일괄 삭제처럼 증감분을 따지기 어려운 경우 원본 테이블 기준으로 다시 계산한다.
+     */
+    public void recompute(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        userStatsRepository.recompute(userIds);
+        userIds.forEach(this::evictAfterCommit);
+    }
+
+    public int recomputeAll() {
+        int updated = userStatsRepository.recomputeAll();
+        synchronized (cache) {
+            invalidations.incrementAndGet();
+            cache.clear();
+        }
+        return updated;
+    }
+
+    private void apply(Long userId, long active, long attended, long reviews, long wishlist) {
+        if (active == 0 && attended == 0 && reviews == 0 && wishlist == 0) {
+            return;
+        }
+        userStatsRepository.applyDelta(userId, active, attended, reviews, wishlist);
+        evictAfterCommit(userId);
+    }
+
+    private void evictAfterCommit(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(userId);
+            }
+        });
+    }
+
+    private void evict(Long userId) {
+        synchronized (cache) {
+            invalidations.incrementAndGet();
+            cache.remove(userId);
+        }
+    }
+
+    private static long activeOf(Reservation.Status status) {
+        return status == Reservation.Status.ACTIVE || status == Reservation.Status.RESERVED ? 1 : 0;
+    }
+
+    private static long attendedOf(Reservation.Status status) {
+        return status == Reservation.Status.ATTENDED ? 1 : 0;
+    }
+
+    private static UserStatsDTO toDTO(UserStats stats) {
+        return UserStatsDTO.builder()
+                .userId(stats.getUserId())
+                .activeReservations(stats.getActiveReservations())
+                .attendedReservations(stats.getAttendedReservations())
+                .reviewCount(stats.getReviewCount())
+                .wishlistCount(stats.getWishlistCount())
+                .build();
+    }
+}
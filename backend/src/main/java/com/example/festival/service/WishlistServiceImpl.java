@@ -1,81 +1,89 @@
 package com.example.festival.service;
 
+import com.example.festival.cache.CatalogSnapshot;
+import com.example.festival.cache.FestivalCatalog;
+import com.example.festival.cache.PopularityCounters;
+import com.example.festival.cache.WishlistStore;
+import com.example.festival.dto.FestivalResponseDTO;
 import com.example.festival.dto.WishlistResponseDTO;
 import com.example.festival.entity.Festival;
-import com.example.festival.entity.Wishlist;
-import com.example.festival.entity.User;
+import com.example.festival.event.WishlistChangedEvent;
 import com.example.festival.repository.FestivalRepository;
-import com.example.festival.repository.UserRepository;
-import com.example.festival.repository.WishlistRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
+/**
+ * 찜 목록의 원본은 WishlistStore(메모리)이고, 테이블 기록은 WishlistStore 가 모아서 한다.
+ * 축제 이름/이미지는 카탈로그 스냅샷에서 붙인다.
+ */
 @Service
 @RequiredArgsConstructor
 public class WishlistServiceImpl implements WishlistService {
 
-    private final WishlistRepository wishlistRepository;
-    private final UserRepository userRepository;
+    private final WishlistStore wishlistStore;
+    private final PopularityCounters popularityCounters;
+    private final FestivalCatalog festivalCatalog;
     private final FestivalRepository festivalRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public WishlistResponseDTO toggleWishlist(Long userId, Long festivalId) {
+        WishlistResponseDTO.WishlistResponseDTOBuilder response = festivalDetails(festivalCatalog.snapshot(), festivalId);
+        if (response == null) {
+            throw new IllegalArgumentException("존재하지 않는 축제입니다.");
+        }
 
-        Festival festival = festivalRepository.findById(festivalId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 축제입니다."));
-
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
-
-        return wishlistRepository.findByUser_UserIdAndFestival_FestivalId(userId, festivalId)
-                .map(existing -> {
-                    wishlistRepository.delete(existing);
-                    return WishlistResponseDTO.builder()
-                            .wishlistId(existing.getWishlistId())
-                            .userId(userId)
-                            .festivalId(festivalId)
-                            .festivalName(festival.getName())
-                            .festivalImageUrl(festival.getImageUrl())
-                            .added(false)
-                            .build();
-                })
-                .orElseGet(() -> {
-                    Wishlist wishlist = Wishlist.builder()
-                            .user(user)
-                            .festival(festival)
-                            .build();
-
-                    Wishlist saved = wishlistRepository.save(wishlist);
-                    return toDTO(saved, true);
-                });
+        boolean added = wishlistStore.toggle(userId, festivalId);
+        popularityCounters.wishlistChanged(festivalId, added ? 1 : -1);
+        eventPublisher.publishEvent(new WishlistChangedEvent(userId, festivalId, added));
+        return response
+                .userId(userId)
+                .added(added)
+                .build();
     }
 
     @Override
     public void removeWishlist(Long userId, Long festivalId) {
-        wishlistRepository.deleteByUser_UserIdAndFestival_FestivalId(userId, festivalId);
+        if (wishlistStore.remove(userId, festivalId)) {
+            popularityCounters.wishlistChanged(festivalId, -1);
+            eventPublisher.publishEvent(new WishlistChangedEvent(userId, festivalId, false));
+        }
     }
 
     @Override
     public List<WishlistResponseDTO> getWishlistByUser(Long userId) {
-        return wishlistRepository.findByUser_UserId(userId)
-                .stream()
-                .map(w -> toDTO(w, true))
-                .collect(Collectors.toList());
+        CatalogSnapshot snapshot = festivalCatalog.snapshot();
+        long[] festivalIds = wishlistStore.festivalIds(userId);
+        List<WishlistResponseDTO> result = new ArrayList<>(festivalIds.length);
+        for (long festivalId : festivalIds) {
+            WishlistResponseDTO.WishlistResponseDTOBuilder response = festivalDetails(snapshot, festivalId);
+            if (response != null) {
+                result.add(response.userId(userId).added(true).build());
+            }
+        }
+        return result;
     }
 
-    private WishlistResponseDTO toDTO(Wishlist wishlist, boolean added) {
-        Festival festival = wishlist.getFestival();
-
-        return WishlistResponseDTO.builder()
-                .wishlistId(wishlist.getWishlistId())
-                .userId(wishlist.getUser().getUserId())
-                .festivalId(festival != null ? festival.getFestivalId() : null)
-                .festivalName(festival != null ? festival.getName() : null)
-                .festivalImageUrl(festival != null ? festival.getImageUrl() : null)
-                .added(added)
-                .build();
+    /**
+     * 카탈로그 스냅샷에 아직 없는(방금 만든) 축제만 테이블에서 읽는다. 없는 축제면 null.
+     */
+    private WishlistResponseDTO.WishlistResponseDTOBuilder festivalDetails(CatalogSnapshot snapshot, Long festivalId) {
+        FestivalResponseDTO cached = snapshot.get(festivalId);
+        if (cached != null) {
+            return WishlistResponseDTO.builder()
+                    .festivalId(festivalId)
+                    .festivalName(cached.getTitle())
+                    .festivalImageUrl(cached.getImageUrl());
+        }
+        return festivalRepository.findById(festivalId)
+                .map((Festival festival) -> WishlistResponseDTO.builder()
+                        .festivalId(festivalId)
+                        .festivalName(festival.getName())
+                        .festivalImageUrl(festival.getImageUrl()))
+                .orElse(null);
     }
 }
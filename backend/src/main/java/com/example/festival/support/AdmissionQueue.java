@@ -0,0 +1,219 @@
+package com.example.festival.support;
+
+import com.example.festival.dto.AdmissionTicketDTO;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 축제별 예약 입장 대기열(가상 대기실).
+ *
+ * 축제마다 토큰 버킷을 두고 초당 rate-per-second 건까지만 예약 생성을 통과시킨다.
+ * 대기자가 없고 토큰이 남아 있으면 바로 통과하고, 아니면 대기표를 발급한다.
+ * 스케줄러가 주기적으로 토큰을 채워 대기열 앞쪽 표부터 READY 로 바꾸고,
+ * READY 가 된 표를 들고 다시 요청하면 통과한다. READY 후 ready-ttl 안에 오지 않거나
+ * abandon-after 동안 조회가 없는 표는 버려 다음 사람에게 차례를 넘긴다.
+ * 그래서 다시 조회하라고 알려 주는 간격(retryAfterSeconds)은 abandon-after 의 절반을 넘지 않는다.
+ */
+@Component
+public class AdmissionQueue {
+
+    @Value("${festival.admission.enabled:true}")
+    private boolean enabled;
+
+    @Value("${festival.admission.rate-per-second:20}")
+    private double ratePerSecond;
+
+    @Value("${festival.admission.burst:20}")
+    private int burst;
+
+    @Value("${festival.admission.max-waiting:100000}")
+    private int maxWaiting;
+
+    @Value("${festival.admission.ready-ttl:PT30S}")
+    private Duration readyTtl;
+
+    @Value("${festival.admission.abandon-after:PT30S}")
+    private Duration abandonAfter;
+
+    private final Map<Long, Lane> lanes = new ConcurrentHashMap<>();
+    private final Map<String, Ticket> tickets = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void validate() {
+        if (ratePerSecond <= 0 || burst <= 0) {
+            throw new IllegalStateException("festival.admission.rate-per-second / burst 는 0보다 커야 합니다.");
+        }
+    }
+
+    /**
+     * 예약 생성을 지금 통과시킬지 결정한다. 통과면 null, 아니면 대기표 상태를 돌려준다.
+     * ticket 이 READY 면 그 표를 사용 처리하고 통과시킨다.
+     */
+    public AdmissionTicketDTO admit(Long festivalId, String ticketId) {
+        if (!enabled) {
+            return null;
+        }
+        if (ticketId != null && !ticketId.isBlank()) {
+            return admitWithTicket(festivalId, ticketId);
+        }
+
+        Ticket issued;
+        while (true) {
+            Lane lane = lanes.computeIfAbsent(festivalId, id -> new Lane(burst));
+            synchronized (lane) {
+                if (lane.retired) {
+                    continue; // dispatch 가 방금 치운 레인이면 새 레인으로 다시
+                }
+                issued = enqueueOrPass(lane, festivalId);
+            }
+            break;
+        }
+        if (issued == null) {
+            return null;
+        }
+        tickets.put(issued.id, issued);
+        return describe(issued);
+    }
+
+    private Ticket enqueueOrPass(Lane lane, Long festivalId) {
+        long now = System.nanoTime();
+        lane.refill(now, ratePerSecond, burst);
+        if (lane.waiting.isEmpty() && lane.tokens >= 1) {
+            lane.tokens -= 1;
+            return null;
+        }
+        if (lane.waiting.size() >= maxWaiting) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "대기열이 가득 찼습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        Ticket issued = new Ticket(UUID.randomUUID().toString(), festivalId, ++lane.issuedSeq, now);
+        lane.waiting.addLast(issued);
+        return issued;
+    }
+
+    /**
+     * 대기표 상태 조회. 조회할 때마다 대기 중인 표가 살아 있음을 갱신한다.
+     */
+    public AdmissionTicketDTO status(String ticketId) {
+        Ticket ticket = tickets.get(ticketId);
+        if (ticket == null) {
+            return AdmissionTicketDTO.builder()
+                    .ticket(ticketId)
+                    .status(State.EXPIRED.name())
+                    .build();
+        }
+        ticket.lastSeenAt = System.nanoTime();
+        return describe(ticket);
+    }
+
+    /**
+     * 토큰을 채워 대기열 앞에서부터 READY 로 바꾸고, 만료된 표를 정리한다.
+     */
+    @Scheduled(fixedDelayString = "${festival.admission.dispatch-interval-ms:100}")
+    public void dispatch() {
+        long now = System.nanoTime();
+        lanes.forEach((festivalId, lane) -> {
+            synchronized (lane) {
+                lane.refill(now, ratePerSecond, burst);
+                while (lane.tokens >= 1 && !lane.waiting.isEmpty()) {
+                    Ticket head = lane.waiting.pollFirst();
+                    if (now - head.lastSeenAt > abandonAfter.toNanos()) {
+                        head.state = State.EXPIRED;
+                        tickets.remove(head.id);
+                        continue;
+                    }
+                    lane.tokens -= 1;
+                    lane.admittedSeq = head.seq;
+                    head.state = State.READY;
+                    head.readyUntil = now + readyTtl.toNanos();
+                }
+                if (lane.waiting.isEmpty() && lane.tokens >= burst) {
+                    lane.retired = true;
+                    lanes.remove(festivalId, lane);
+                }
+            }
+        });
+        tickets.values().removeIf(t -> t.state == State.READY && now > t.readyUntil);
+    }
+
+    private AdmissionTicketDTO admitWithTicket(Long festivalId, String ticketId) {
+        Ticket ticket = tickets.get(ticketId);
+        if (ticket == null) {
+            throw new ResponseStatusException(HttpStatus.GONE, "만료되었거나 존재하지 않는 대기표입니다.");
+        }
+        if (!ticket.festivalId.equals(festivalId)) {
+            throw new IllegalArgumentException("다른 축제의 대기표입니다.");
+        }
+        ticket.lastSeenAt = System.nanoTime();
+        // READY 인 표는 한 번만 쓸 수 있다
+        if (ticket.state == State.READY && tickets.remove(ticketId, ticket)) {
+            return null;
+        }
+        return describe(ticket);
+    }
+
+    private AdmissionTicketDTO describe(Ticket ticket) {
+        State state = ticket.state;
+        long position = 0;
+        if (state == State.WAITING) {
+            Lane lane = lanes.get(ticket.festivalId);
+            long admitted = lane != null ? lane.admittedSeq : 0;
+            position = Math.max(1, ticket.seq - admitted);
+        }
+        long retryAfter = state == State.WAITING
+                ? Math.max(1, Math.min((long) Math.ceil(position / ratePerSecond), abandonAfter.toSeconds() / 2))
+                : 0;
+        return AdmissionTicketDTO.builder()
+                .ticket(ticket.id)
+                .festivalId(ticket.festivalId)
+                .status(state.name())
+                .position(position)
+                .retryAfterSeconds(retryAfter)
+                .build();
+    }
+
+    private enum State { WAITING, READY, EXPIRED }
+
+    private static final class Lane {
+        final ArrayDeque<Ticket> waiting = new ArrayDeque<>();
+        double tokens;
+        long refilledAt = System.nanoTime();
+        long issuedSeq;
+        volatile long admittedSeq;
+        boolean retired;
+
+        Lane(int burst) {
+            this.tokens = burst;
+        }
+
+        void refill(long now, double ratePerSecond, int burst) {
+            tokens = Math.min(burst, tokens + (now - refilledAt) / 1_000_000_000.0 * ratePerSecond);
+            refilledAt = now;
+        }
+    }
+
+    private static final class Ticket {
+        final String id;
+        final Long festivalId;
+        final long seq;
+        volatile State state = State.WAITING;
+        volatile long lastSeenAt;
+        volatile long readyUntil;
+
+        Ticket(String id, Long festivalId, long seq, long issuedAt) {
+            this.id = id;
+            this.festivalId = festivalId;
+            this.seq = seq;
+            this.lastSeenAt = issuedAt;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.festival.support;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * 입장 확인용 예약 토큰. "예약id.축제id.yyyyMMdd.서명" 형식이고 서명은 앞부분의 HMAC-SHA256(base64url) 이다.
+ * 현장 스캐너는 같은 festival.checkin.secret 을 가지고 DB 조회 없이 토큰을 검증할 수 있다.
+ */
+@Component
+public class CheckInTokenSigner {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    @Value("${festival.checkin.secret}")
+    private String secret;
+
+    private SecretKeySpec key;
+    private final ThreadLocal<Mac> macs = ThreadLocal.withInitial(this::newMac);
+
+    @PostConstruct
+    public void init() {
+        if (secret == null || secret.length() < 32) {
+            throw new IllegalStateException("festival.checkin.secret 는 32자 이상이어야 합니다.");
+        }
+        key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    }
+
+    public String sign(Long reservationId, Long festivalId, LocalDate date) {
+        String payload = reservationId + "." + festivalId + "." + date.format(DATE_FORMAT);
+        return payload + "." + signature(payload);
+    }
+
+    /**
+     * 서명이 맞으면 토큰에 담긴 값을, 형식이 틀리거나 위조됐으면 빈 값을 돌려준다.
+     */
+    public Optional<Claims> verify(String token) {
+        if (token == null) {
+            return Optional.empty();
+        }
+        int lastDot = token.lastIndexOf('.');
+        if (lastDot < 0) {
+            return Optional.empty();
+        }
+        String payload = token.substring(0, lastDot);
+        byte[] expected = signature(payload).getBytes(StandardCharsets.US_ASCII);
+        byte[] actual = token.substring(lastDot + 1).getBytes(StandardCharsets.US_ASCII);
+        if (!MessageDigest.isEqual(expected, actual)) {
+            return Optional.empty();
+        }
+
+        String[] parts = payload.split("\\.");
+        if (parts.length != 3) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new Claims(
+                    Long.parseLong(parts[0]),
+                    Long.parseLong(parts[1]),
+                    LocalDate.parse(parts[2], DATE_FORMAT)));
+        } catch (NumberFormatException | DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    private String signature(String payload) {
+        byte[] mac = macs.get().doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(mac);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("체크인 토큰 서명 키를 초기화할 수 없습니다.", e);
+        }
+    }
+
+    public record Claims(Long reservationId, Long festivalId, LocalDate date) {
+    }
+}
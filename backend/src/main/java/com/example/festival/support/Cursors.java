@@ -0,0 +1,68 @@
+package com.example.festival.support;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.stream.Collectors;
+
+/**
+ * 페이지 커서 인코딩. 정렬 키 값들을 이어 붙여 base64url 로 감싼 불투명 문자열이다.
+ */
+public final class Cursors {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    private static final String SEPARATOR = "|";
+
+    private Cursors() {
+    }
+
+    public static String encode(Object... keys) {
+        String raw = Arrays.stream(keys)
+                .map(String::valueOf)
+                .collect(Collectors.joining(SEPARATOR));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서를 정렬 키 문자열 배열로 푼다. cursor 가 비어 있으면 null.
+     */
+    public static String[] decode(String cursor, int keyCount) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] keys = raw.split("\\|", -1);
+            if (keys.length != keyCount) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return keys;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+
+    /**
+     * id 하나로 된 커서. cursor 가 비어 있으면 firstValue 를 돌려준다.
+     */
+    public static long decodeLong(String cursor, long firstValue) {
+        String[] keys = decode(cursor, 1);
+        if (keys == null) {
+            return firstValue;
+        }
+        try {
+            return Long.parseLong(keys[0]);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+
+    public static int clampLimit(int limit) {
+        if (limit <= 0) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+}
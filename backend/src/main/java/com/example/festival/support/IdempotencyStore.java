@@ -0,0 +1,145 @@
+package com.example.festival.support;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 헤더로 들어온 쓰기 요청의 응답을 일정 시간 보관한다.
+ *
+ * 같은 키로 다시 들어온 요청은 서비스/DB 를 거치지 않고 처음 응답을 그대로 돌려준다.
+ * 처음 요청이 아직 처리 중이면 그 결과를 기다리고, 실패한 요청은 보관하지 않아 재시도가 다시 실행된다.
+ * 키는 엔드포인트(scope) 단위로 구분하며, 같은 키로 내용이 다른 요청이 오면 422 로 거절한다.
+ */
+@Component
+public class IdempotencyStore {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    @Value("${festival.idempotency.ttl:PT24H}")
+    private Duration ttl;
+
+    @Value("${festival.idempotency.max-entries:10000}")
+    private int maxEntries;
+
+    private Map<String, Entry> entries;
+
+    @PostConstruct
+    public void init() {
+        int capacity = maxEntries;
+        // 접근 순서 LRU: 가득 차면 가장 오래 안 쓰인 키부터 버린다
+        entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * key 가 없으면 action 을 그대로 실행한다. fingerprint 는 요청 내용(경로 변수, 본문 DTO 등)을 equals 로 비교할 수 있는 값.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String scope, String key, Object fingerprint, Supplier<T> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key 가 너무 깁니다.");
+        }
+
+        String storeKey = scope + '\n' + key;
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        Entry existing;
+        synchronized (this) {
+            existing = entries.get(storeKey);
+            if (existing != null && existing.isExpired()) {
+                entries.remove(storeKey);
+                existing = null;
+            }
+            if (existing == null) {
+                entries.put(storeKey, new Entry(fingerprint, mine));
+            }
+        }
+
+        if (existing != null) {
+            if (!Objects.equals(existing.fingerprint, fingerprint)) {
+                throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY,
+                        "같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다.");
+            }
+            return (T) await(existing.response);
+        }
+
+        try {
+            T result = action.get();
+            synchronized (this) {
+                Entry entry = entries.get(storeKey);
+                if (entry != null && entry.response == mine) {
+                    entry.expiresAt = System.currentTimeMillis() + ttl.toMillis();
+                }
+            }
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            synchronized (this) {
+                Entry entry = entries.get(storeKey);
+                if (entry != null && entry.response == mine) {
+                    entries.remove(storeKey);
+                }
+            }
+            mine.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public void execute(String scope, String key, Object fingerprint, Runnable action) {
+        execute(scope, key, fingerprint, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${festival.idempotency.purge-interval-ms:60000}")
+    public synchronized void purgeExpired() {
+        entries.values().removeIf(Entry::isExpired);
+    }
+
+    private static Object await(CompletableFuture<Object> response) {
+        try {
+            return response.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static final class Entry {
+        final Object fingerprint;
+        final CompletableFuture<Object> response;
+        volatile long expiresAt = Long.MAX_VALUE; // 처리 중에는 만료시키지 않는다
+
+        Entry(Object fingerprint, CompletableFuture<Object> response) {
+            this.fingerprint = fingerprint;
+            this.response = response;
+        }
+
+        boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
+        }
+    }
+}
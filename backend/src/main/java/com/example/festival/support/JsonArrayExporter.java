@@ -0,0 +1,49 @@
+package com.example.festival.support;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 엔티티 스트림을 JSON 배열로 바로 응답 스트림에 써 내려간다.
+ * BATCH_SIZE 건마다 출력을 내보내고 영속성 컨텍스트를 비워서, 행 수와 관계없이 메모리 사용량이 일정하다.
+ * 반드시 스트림을 연 트랜잭션 안에서 호출해야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class JsonArrayExporter {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public <E, D> long write(Stream<E> rows, Function<E, D> mapper, OutputStream out) throws IOException {
+        long count = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartArray();
+            Iterator<E> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                generator.writeObject(mapper.apply(iterator.next()));
+                if (++count % BATCH_SIZE == 0) {
+                    generator.flush();
+                    entityManager.clear();
+                }
+            }
+            generator.writeEndArray();
+        }
+        return count;
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.festival.support;
+
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 리뷰 본문을 키워드 후보로 자른다.
+ *
+ * 형태소 분석기 없이 공백/문장부호 단위로 자른 뒤, 한글 어절 끝의 흔한 조사만 떼어 낸다.
+ * ("부스가" / "부스는" / "부스를" → "부스") 두 글자 미만, 숫자만 있는 토큰, 불용어는 버린다.
+ */
+public final class ReviewTokenizer {
+
+    private static final int MIN_LENGTH = 2;
+    private static final int MAX_LENGTH = 20;
+
+    // 긴 것부터 검사해야 "에서는" 이 "는" 으로 잘리지 않는다
+    private static final List<String> PARTICLES = List.of(
+            "에서는", "으로는", "에게서", "이라도", "까지", "부터", "에서", "에게", "한테", "으로", "보다",
+            "처럼", "만큼", "이랑", "하고", "이나", "은", "는", "이", "가", "을", "를", "의", "에",
+            "도", "와", "과", "로", "만", "랑", "나");
+
+    private static final Set<String> STOPWORDS = Set.of(
+            "너무", "정말", "진짜", "완전", "엄청", "매우", "아주", "조금", "그리고", "그런데", "하지만", "그래서",
+            "있어요", "있었어요", "없어요", "했어요", "했는데", "했습니다", "합니다", "입니다", "같아요", "좋아요",
+            "좋았어요", "좋았습니다", "좋습니다", "것", "거", "수", "때", "더", "또", "그냥", "다시", "이번",
+            "the", "and", "was", "for", "but", "with", "very");
+
+    private ReviewTokenizer() {
+    }
+
+    /**
+     * 정규화된 키워드 → 본문 안 등장 횟수.
+     */
+    public static Map<String, Integer> termCounts(String text) {
+        if (text == null || text.isBlank()) {
+            return Map.of();
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase();
+        Map<String, Integer> counts = new HashMap<>();
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i <= normalized.length(); i++) {
+            char c = i < normalized.length() ? normalized.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                current.append(c);
+                continue;
+            }
+            if (!current.isEmpty()) {
+                String term = normalize(current.toString());
+                if (term != null) {
+                    counts.merge(term, 1, Integer::sum);
+                }
+                current.setLength(0);
+            }
+        }
+        return counts;
+    }
+
+    private static String normalize(String token) {
+        String term = stripParticle(token);
+        if (term.length() < MIN_LENGTH || term.length() > MAX_LENGTH || STOPWORDS.contains(term)) {
+            return null;
+        }
+        for (int i = 0; i < term.length(); i++) {
+            if (!Character.isDigit(term.charAt(i))) {
+                return term;
+            }
+        }
+        return null;
+    }
+
+    private static String stripParticle(String token) {
+        if (!isHangul(token.charAt(token.length() - 1))) {
+            return token;
+        }
+        for (String particle : PARTICLES) {
+            // 조사를 떼고도 두 글자 이상 남을 때만 뗀다 ("나이" 가 "나" 가 되지 않도록)
+            if (token.length() - particle.length() >= MIN_LENGTH && token.endsWith(particle)) {
+                return token.substring(0, token.length() - particle.length());
+            }
+        }
+        return token;
+    }
+
+    private static boolean isHangul(char c) {
+        return c >= '가' && c <= '힣';
+    }
+}
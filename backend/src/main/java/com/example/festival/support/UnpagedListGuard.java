@@ -0,0 +1,25 @@
+package com.example.festival.support;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 페이지 없이 전체 목록을 돌려주던 예전 목록 API 의 사용 여부를 제어한다.
+ * 프론트엔드가 cursor/limit 으로 모두 옮겨 가면 festival.pagination.allow-unpaged=false 로 끈다.
+ */
+@Component
+public class UnpagedListGuard {
+
+    @Value("${festival.pagination.allow-unpaged:true}")
+    private boolean allowUnpaged;
+
+    public void check(HttpServletResponse response) {
+        if (!allowUnpaged) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit 파라미터가 필요합니다.");
+        }
+        response.setHeader("Deprecation", "true");
+    }
+}
@@ -3,7 +3,7 @@ package com.example.festival;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "festival.checkin.secret=test-checkin-secret-0123456789abcdef")
 class FestivalApplicationTests {
 
 	@Test
@@ -0,0 +1,126 @@
+package com.example.festival.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FestivalIdBitmapTest {
+
+    @Test
+    void emptyBitmap() {
+        FestivalIdBitmap bitmap = new FestivalIdBitmap();
+
+        assertEquals(0, bitmap.cardinality());
+        assertArrayEquals(new long[0], bitmap.toArray());
+        assertFalse(bitmap.contains(1));
+        assertFalse(bitmap.remove(1));
+    }
+
+    @Test
+    void addAndRemoveReportWhetherTheSetChanged() {
+        FestivalIdBitmap bitmap = new FestivalIdBitmap();
+
+        assertTrue(bitmap.add(42));
+        assertFalse(bitmap.add(42));
+        assertTrue(bitmap.contains(42));
+        assertTrue(bitmap.remove(42));
+        assertFalse(bitmap.remove(42));
+        assertFalse(bitmap.contains(42));
+        assertEquals(0, bitmap.cardinality());
+    }
+
+    @Test
+    void keepsContainersSortedAcrossHighBits() {
+        FestivalIdBitmap bitmap = new FestivalIdBitmap();
+        TreeSet<Long> expected = new TreeSet<>();
+        // 상위 비트(container) 가 제각각인 id 를 순서 없이 넣는다
+        long[] ids = {1L << 40, 5, 70_000, 65_535, 65_536, 3L << 20, (1L << 40) + 1, 131_072, 0, Long.MAX_VALUE};
+        for (long id : ids) {
+            bitmap.add(id);
+            expected.add(id);
+        }
+        assertMatches(expected, bitmap);
+
+        // 가운데 container 를 비워 배열 당기기를 확인한다
+        bitmap.remove(65_536);
+        bitmap.remove(70_000);
+        expected.remove(65_536L);
+        expected.remove(70_000L);
+        assertMatches(expected, bitmap);
+    }
+
+    @Test
+    void convertsBetweenArrayAndBitmapContainersAtTheBoundary() {
+        FestivalIdBitmap bitmap = new FestivalIdBitmap();
+        TreeSet<Long> expected = new TreeSet<>();
+        long base = 7L << 16;
+        for (long low = 0; low < 4096; low++) {
+            bitmap.add(base + low * 3);
+            expected.add(base + low * 3);
+        }
+        assertMatches(expected, bitmap);
+
+        // 4097 번째 원소에서 비트맵으로 바뀐다
+        assertTrue(bitmap.add(base + 1));
+        expected.add(base + 1);
+        assertMatches(expected, bitmap);
+        assertFalse(bitmap.add(base + 1));
+
+        // 다시 4096 개가 되면 배열로 돌아간다
+        assertTrue(bitmap.remove(base));
+        expected.remove(base);
+        assertMatches(expected, bitmap);
+
+        assertTrue(bitmap.add(base + 65_535));
+        expected.add(base + 65_535);
+        assertTrue(bitmap.add(base + 2));
+        expected.add(base + 2);
+        assertMatches(expected, bitmap);
+
+        for (long id : expected.descendingSet()) {
+            assertTrue(bitmap.remove(id));
+        }
+        assertEquals(0, bitmap.cardinality());
+        assertArrayEquals(new long[0], bitmap.toArray());
+    }
+
+    @Test
+    void randomOperationsMatchTreeSet() {
+        Random random = new Random(7);
+        FestivalIdBitmap bitmap = new FestivalIdBitmap();
+        TreeSet<Long> expected = new TreeSet<>();
+        for (int step = 0; step < 200_000; step++) {
+            // 한 container 에 몰리는 구간과 여러 container 로 흩어지는 구간을 섞는다
+            long id = random.nextInt(4) == 0
+                    ? random.nextInt(1 << 20)
+                    : (3L << 16) + random.nextInt(9000);
+            if (random.nextInt(10) < 6) {
+                assertEquals(expected.add(id), bitmap.add(id));
+            } else {
+                assertEquals(expected.remove(id), bitmap.remove(id));
+            }
+            if (step % 20_000 == 0) {
+                assertMatches(expected, bitmap);
+            }
+        }
+        assertMatches(expected, bitmap);
+        for (int i = 0; i < 10_000; i++) {
+            long id = random.nextInt(1 << 20);
+            assertEquals(expected.contains(id), bitmap.contains(id));
+        }
+    }
+
+    private static void assertMatches(TreeSet<Long> expected, FestivalIdBitmap bitmap) {
+        assertEquals(expected.size(), bitmap.cardinality());
+        assertArrayEquals(expected.stream().mapToLong(Long::longValue).toArray(), bitmap.toArray());
+        for (long id : expected) {
+            assertTrue(bitmap.contains(id));
+        }
+    }
+}
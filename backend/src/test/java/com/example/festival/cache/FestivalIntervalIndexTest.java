@@ -0,0 +1,95 @@
+package com.example.festival.cache;
+
+import com.example.festival.dto.FestivalResponseDTO;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FestivalIntervalIndexTest {
+
+    private static final LocalDate BASE = LocalDate.of(2025, 1, 1);
+
+    @Test
+    void emptyIndexReturnsNothing() {
+        FestivalIntervalIndex index = new FestivalIntervalIndex(List.of());
+
+        assertTrue(index.overlapping(BASE, BASE.plusDays(30)).isEmpty());
+        assertTrue(index.ongoing(BASE).isEmpty());
+        assertTrue(index.endingOnOrAfter(BASE).isEmpty());
+    }
+
+    @Test
+    void festivalsWithoutDatesAreSkipped() {
+        List<FestivalResponseDTO> festivals = List.of(
+                festival(1L, BASE, BASE.plusDays(2)),
+                festival(2L, null, BASE.plusDays(2)),
+                festival(3L, BASE, null),
+                festival(4L, null, null));
+        FestivalIntervalIndex index = new FestivalIntervalIndex(festivals);
+
+        assertEquals(List.of(1L), ids(index.endingOnOrAfter(LocalDate.MIN)));
+    }
+
+    @Test
+    void boundaryDaysAreInclusive() {
+        FestivalIntervalIndex index = new FestivalIntervalIndex(List.of(festival(1L, BASE, BASE.plusDays(3))));
+
+        assertEquals(List.of(1L), ids(index.ongoing(BASE)));
+        assertEquals(List.of(1L), ids(index.ongoing(BASE.plusDays(3))));
+        assertTrue(index.ongoing(BASE.minusDays(1)).isEmpty());
+        assertTrue(index.ongoing(BASE.plusDays(4)).isEmpty());
+        assertEquals(List.of(1L), ids(index.overlapping(BASE.minusDays(5), BASE)));
+        assertEquals(List.of(1L), ids(index.endingOnOrAfter(BASE.plusDays(3))));
+        assertTrue(index.endingOnOrAfter(BASE.plusDays(4)).isEmpty());
+    }
+
+    @Test
+    void queriesMatchBruteForce() {
+        Random random = new Random(8);
+        for (int size : new int[]{1, 2, 3, 7, 64, 1_000}) {
+            List<FestivalResponseDTO> festivals = new ArrayList<>();
+            for (long id = 1; id <= size; id++) {
+                // 같은 시작일이 자주 겹치도록 범위를 좁게 잡고, 한 달 넘는 장기 축제도 섞는다
+                LocalDate start = BASE.plusDays(random.nextInt(120));
+                int length = random.nextInt(10) == 0 ? random.nextInt(200) : random.nextInt(5);
+                festivals.add(festival(id, start, start.plusDays(length)));
+            }
+            FestivalIntervalIndex index = new FestivalIntervalIndex(festivals);
+
+            for (int i = 0; i < 300; i++) {
+                LocalDate from = BASE.plusDays(random.nextInt(360) - 30);
+                LocalDate to = from.plusDays(random.nextInt(20));
+                assertEquals(bruteForce(festivals, from, to), ids(index.overlapping(from, to)));
+                assertEquals(bruteForce(festivals, from, from), ids(index.ongoing(from)));
+                assertEquals(bruteForce(festivals, from, LocalDate.MAX), ids(index.endingOnOrAfter(from)));
+            }
+        }
+    }
+
+    private static List<Long> bruteForce(List<FestivalResponseDTO> festivals, LocalDate from, LocalDate to) {
+        return ids(festivals.stream()
+                .filter(f -> !f.getStartDate().isAfter(to) && !f.getEndDate().isBefore(from))
+                .sorted(Comparator.comparing(FestivalResponseDTO::getStartDate)
+                        .thenComparing(FestivalResponseDTO::getId))
+                .toList());
+    }
+
+    private static List<Long> ids(List<FestivalResponseDTO> festivals) {
+        return festivals.stream().map(FestivalResponseDTO::getId).toList();
+    }
+
+    private static FestivalResponseDTO festival(Long id, LocalDate start, LocalDate end) {
+        return FestivalResponseDTO.builder()
+                .id(id)
+                .startDate(start)
+                .endDate(end)
+                .build();
+    }
+}
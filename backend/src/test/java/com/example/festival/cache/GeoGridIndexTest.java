@@ -0,0 +1,132 @@
+package com.example.festival.cache;
+
+import com.example.festival.dto.FestivalResponseDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GeoGridIndexTest {
+
+    private static final double TOLERANCE_KM = 1e-9;
+
+    @Test
+    void nearestMatchesBruteForceAroundKorea() {
+        Random random = new Random(1);
+        List<FestivalResponseDTO> festivals = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            festivals.add(festival(id, 33 + random.nextDouble() * 5, 125 + random.nextDouble() * 5));
+        }
+        GeoGridIndex index = new GeoGridIndex(festivals);
+
+        for (int i = 0; i < 200; i++) {
+            double lat = 32 + random.nextDouble() * 7;
+            double lng = 124 + random.nextDouble() * 7;
+            int limit = 1 + random.nextInt(30);
+            assertSameDistances(bruteForce(festivals, lat, lng, null, limit), index.nearest(lat, lng, null, limit));
+            double radius = random.nextDouble() * 50;
+            assertSameDistances(bruteForce(festivals, lat, lng, radius, limit), index.nearest(lat, lng, radius, limit));
+        }
+    }
+
+    @Test
+    void nearestMatchesBruteForceAcrossTheGlobe() {
+        Random random = new Random(2);
+        List<FestivalResponseDTO> festivals = new ArrayList<>();
+        for (long id = 1; id <= 300; id++) {
+            festivals.add(festival(id, -90 + random.nextDouble() * 180, -180 + random.nextDouble() * 360));
+        }
+        GeoGridIndex index = new GeoGridIndex(festivals);
+
+        for (int i = 0; i < 200; i++) {
+            double lat = -90 + random.nextDouble() * 180;
+            double lng = -180 + random.nextDouble() * 360;
+            int limit = 1 + random.nextInt(10);
+            assertSameDistances(bruteForce(festivals, lat, lng, null, limit), index.nearest(lat, lng, null, limit));
+        }
+    }
+
+    @Test
+    void nearestFindsPointsAcrossTheDateline() {
+        List<FestivalResponseDTO> festivals = List.of(
+                festival(1L, 10.0, -179.99),
+                festival(2L, 10.0, 170.0),
+                festival(3L, 10.5, 179.0));
+        GeoGridIndex index = new GeoGridIndex(festivals);
+
+        List<GeoGridIndex.Neighbor> nearest = index.nearest(10.0, 179.99, null, 2);
+
+        assertEquals(List.of(1L, 3L), nearest.stream().map(n -> n.festival().getId()).toList());
+        assertSameDistances(bruteForce(festivals, 10.0, 179.99, null, 2), nearest);
+    }
+
+    @Test
+    void nearestNearThePolesMatchesBruteForce() {
+        Random random = new Random(3);
+        List<FestivalResponseDTO> festivals = new ArrayList<>();
+        for (long id = 1; id <= 200; id++) {
+            festivals.add(festival(id, 85 + random.nextDouble() * 5, -180 + random.nextDouble() * 360));
+        }
+        festivals.add(festival(1000L, 90.0, 0.0));
+        GeoGridIndex index = new GeoGridIndex(festivals);
+
+        for (double lat : new double[]{90.0, 89.99, 87.5, -90.0}) {
+            for (double lng : new double[]{-180.0, 0.0, 179.99}) {
+                assertSameDistances(bruteForce(festivals, lat, lng, null, 5), index.nearest(lat, lng, null, 5));
+                assertSameDistances(bruteForce(festivals, lat, lng, 100.0, 50), index.nearest(lat, lng, 100.0, 50));
+            }
+        }
+    }
+
+    @Test
+    void queryFarFromTheDataReturnsTheClosestFestivals() {
+        Random random = new Random(4);
+        List<FestivalResponseDTO> festivals = new ArrayList<>();
+        for (long id = 1; id <= 100; id++) {
+            festivals.add(festival(id, 35 + random.nextDouble(), 127 + random.nextDouble()));
+        }
+        GeoGridIndex index = new GeoGridIndex(festivals);
+
+        assertSameDistances(bruteForce(festivals, -90, -180, null, 3), index.nearest(-90, -180, null, 3));
+        assertTrue(index.nearest(-90, -180, 10.0, 3).isEmpty());
+    }
+
+    @Test
+    void festivalsWithoutCoordinatesAreSkipped() {
+        FestivalResponseDTO noCoordinates = FestivalResponseDTO.builder().id(1L).build();
+        GeoGridIndex index = new GeoGridIndex(List.of(noCoordinates, festival(2L, 37.5, 127.0)));
+
+        List<GeoGridIndex.Neighbor> nearest = index.nearest(37.5, 127.0, null, 10);
+
+        assertEquals(1, nearest.size());
+        assertEquals(2L, nearest.get(0).festival().getId());
+        assertTrue(new GeoGridIndex(List.of(noCoordinates)).nearest(0, 0, null, 10).isEmpty());
+    }
+
+    private static void assertSameDistances(List<Double> expected, List<GeoGridIndex.Neighbor> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), actual.get(i).distanceKm(), TOLERANCE_KM);
+        }
+    }
+
+    private static List<Double> bruteForce(List<FestivalResponseDTO> festivals, double lat, double lng,
+                                           Double maxDistanceKm, int limit) {
+        return festivals.stream()
+                .filter(f -> f.getLat() != null && f.getLng() != null)
+                .map(f -> GeoGridIndex.haversineKm(lat, lng, f.getLat(), f.getLng()))
+                .filter(d -> maxDistanceKm == null || d <= maxDistanceKm)
+                .sorted(Comparator.naturalOrder())
+                .limit(limit)
+                .toList();
+    }
+
+    private static FestivalResponseDTO festival(Long id, double lat, double lng) {
+        return FestivalResponseDTO.builder().id(id).lat(lat).lng(lng).build();
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.festival.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LongCountMapTest {
+
+    @Test
+    void addAccumulatesAndRemovesAtZero() {
+        LongCountMap map = new LongCountMap(4);
+
+        assertEquals(3, map.add(10, 3));
+        assertEquals(5, map.add(10, 2));
+        assertEquals(5, map.get(10));
+        assertEquals(1, map.size());
+
+        assertEquals(0, map.add(10, -7));
+        assertEquals(0, map.get(10));
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    void nonPositiveDeltaOnMissingKeyDoesNotInsert() {
+        LongCountMap map = new LongCountMap(4);
+
+        assertEquals(0, map.add(10, 0));
+        assertEquals(0, map.add(11, -1));
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    void zeroKeyIsRejected() {
+        LongCountMap map = new LongCountMap(4);
+
+        assertThrows(IllegalArgumentException.class, () -> map.add(0, 1));
+    }
+
+    @Test
+    void deletesInsideCollisionChainsKeepOtherKeysReachable() {
+        // 16 칸에 9 개까지만 채워서 탐사 구간이 길게 이어지고 끝에서 앞으로 감기게 한다
+        Random random = new Random(11);
+        for (int round = 0; round < 2_000; round++) {
+            LongCountMap map = new LongCountMap(1);
+            Map<Long, Integer> expected = new HashMap<>();
+            for (int step = 0; step < 200; step++) {
+                long key = 1 + random.nextInt(40);
+                if (!expected.containsKey(key) && expected.size() >= 9) {
+                    key = expected.keySet().iterator().next();
+                }
+                int delta = random.nextInt(5) - 2;
+                apply(expected, key, delta);
+                assertEquals((int) expected.getOrDefault(key, 0), map.add(key, delta));
+                assertMatches(expected, map, 40);
+            }
+        }
+    }
+
+    @Test
+    void randomOperationsWithGrowthMatchHashMap() {
+        Random random = new Random(5);
+        LongCountMap map = new LongCountMap(16);
+        Map<Long, Integer> expected = new HashMap<>();
+        for (int step = 0; step < 300_000; step++) {
+            long key = 1 + random.nextInt(50_000);
+            int delta = random.nextInt(7) - 2;
+            apply(expected, key, delta);
+            assertEquals((int) expected.getOrDefault(key, 0), map.add(key, delta));
+        }
+        assertMatches(expected, map, 50_000);
+    }
+
+    @Test
+    void removeIfDropsMatchingKeysOnly() {
+        Random random = new Random(3);
+        LongCountMap map = new LongCountMap(16);
+        Map<Long, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 5_000; i++) {
+            long key = 1 + random.nextInt(10_000);
+            apply(expected, key, 1);
+            map.add(key, 1);
+        }
+
+        map.removeIf(key -> key % 3 == 0);
+        expected.keySet().removeIf(key -> key % 3 == 0);
+        assertMatches(expected, map, 10_000);
+
+        // 지운 뒤에도 추가/삭제가 그대로 동작해야 한다
+        for (long key = 1; key <= 10_000; key += 7) {
+            apply(expected, key, 2);
+            map.add(key, 2);
+        }
+        assertMatches(expected, map, 10_000);
+    }
+
+    private static void apply(Map<Long, Integer> expected, long key, int delta) {
+        int updated = expected.getOrDefault(key, 0) + delta;
+        if (updated <= 0) {
+            expected.remove(key);
+        } else {
+            expected.put(key, updated);
+        }
+    }
+
+    private static void assertMatches(Map<Long, Integer> expected, LongCountMap map, long maxKey) {
+        assertEquals(expected.size(), map.size());
+        for (long key = 1; key <= maxKey; key++) {
+            assertEquals((int) expected.getOrDefault(key, 0), map.get(key));
+        }
+    }
+}
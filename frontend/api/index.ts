@@ -1,6 +1,6 @@
 import axios from 'axios';
 import { Platform } from 'react-native';
-import { Festival, Product, ReviewRequest, ReviewResponse, ReservationResponse, User } from './types';
+import { AdmissionTicket, Festival, Product, ReviewRequest, ReviewResponse, ReservationResponse, User } from './types';
 
 const BASE_URL =
   process.env.EXPO_PUBLIC_API_BASE_URL ||
@@ -19,6 +19,8 @@ const mlClient = axios.create({
   timeout: 5000,
 });
 
+const wait = (ms: number) => new Promise<void>((resolve) => setTimeout(resolve, ms));
+
 export const api = {
   signup: async (data: any): Promise<User> => {
     const res = await client.post<User>('/users/signup', data);
@@ -92,7 +94,20 @@ export const api = {
     return res.data;
   },
   createReservation: async (data: any) => {
-    const res = await client.post('/reservations', data);
+    let res = await client.post('/reservations', data);
+    // 혼잡하면 202 와 대기표를 받는다. READY 가 될 때까지 대기열을 조회한 뒤 대기표를 붙여 다시 요청한다.
+    while (res.status === 202) {
+      let ticket: AdmissionTicket = res.data;
+      while (ticket.status === 'WAITING') {
+        await wait(Math.max(ticket.retryAfterSeconds, 1) * 1000);
+        const polled = await client.get<AdmissionTicket>(`/reservations/queue/${ticket.ticket}`);
+        ticket = polled.data;
+      }
+      if (ticket.status !== 'READY') {
+        throw new Error('예약 대기 시간이 지났습니다. 다시 시도해 주세요.');
+      }
+      res = await client.post('/reservations', data, { params: { ticket: ticket.ticket } });
+    }
     return res.data;
   },
   getReviewsByFestival: async (festivalId: number): Promise<ReviewResponse[]> => {
@@ -134,8 +149,9 @@ export const api = {
   },
 
   // Reservations
-  getReservationsByUser: async (userId: number): Promise<ReservationResponse[]> => {
-    const res = await client.get<ReservationResponse[]>(`/reservations/user/${userId}`);
+  // history 가 true 면 보관 처리된 지난 예약까지 함께 받는다
+  getReservationsByUser: async (userId: number, history = false): Promise<ReservationResponse[]> => {
+    const res = await client.get<ReservationResponse[]>(`/reservations/user/${userId}`, { params: { history } });
     return res.data;
   },
   getReservationCount: async (userId: number) => {
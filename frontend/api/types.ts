@@ -57,6 +57,14 @@ export interface ToxicityResult {
   score: number;
 }
 
+export interface AdmissionTicket {
+  ticket: string;
+  festivalId: number;
+  status: 'WAITING' | 'READY' | 'EXPIRED';
+  position: number;
+  retryAfterSeconds: number;
+}
+
 export interface ReservationResponse {
   reservationId: number;
   userId: number;
@@ -38,7 +38,7 @@ export default function MyPageReservations() {
     const user = getCurrentUser();
     if (!user) return;
     api
-      .getReservationsByUser(user.userId)
+      .getReservationsByUser(user.userId, true)
       .then((list) => {
         const sorted = [...list].sort(
           (a, b) => statusPriority(normalizeStatus(a.status)) - statusPriority(normalizeStatus(b.status))